@@ -0,0 +1,64 @@
+package com.github.amanguss.shopping_list_application.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(400)
+@Fork(1)
+public class RequestModeBenchmark {
+
+    private HttpClient client;
+    private URI ownerLists;
+    private URI accessibleLists;
+
+    @Setup(Level.Trial)
+    public void prepare(ServingApplication application) {
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ownerLists = application.uri("/api/shopping-lists/owner/" + application.userId());
+        accessibleLists = application.uri("/api/shopping-lists/accessible/" + application.userId());
+    }
+
+    @Benchmark
+    public int getShoppingListsByOwner() throws IOException, InterruptedException {
+        return get(ownerLists);
+    }
+
+    @Benchmark
+    public int getAccessibleLists() throws IOException, InterruptedException {
+        return get(accessibleLists);
+    }
+
+    private int get(URI uri) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode() + " for " + uri);
+        }
+        return response.statusCode();
+    }
+}
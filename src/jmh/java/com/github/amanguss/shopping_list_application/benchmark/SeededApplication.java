@@ -0,0 +1,203 @@
+package com.github.amanguss.shopping_list_application.benchmark;
+
+import com.github.amanguss.shopping_list_application.ShoppingListApplication;
+import com.github.amanguss.shopping_list_application.entity.Budget;
+import com.github.amanguss.shopping_list_application.entity.Category;
+import com.github.amanguss.shopping_list_application.entity.Item;
+import com.github.amanguss.shopping_list_application.entity.ListShare;
+import com.github.amanguss.shopping_list_application.entity.ShoppingList;
+import com.github.amanguss.shopping_list_application.entity.User;
+import com.github.amanguss.shopping_list_application.entity.enums.AccountStatus;
+import com.github.amanguss.shopping_list_application.entity.enums.ListStatus;
+import com.github.amanguss.shopping_list_application.entity.enums.Period;
+import com.github.amanguss.shopping_list_application.entity.enums.Permission;
+import com.github.amanguss.shopping_list_application.entity.enums.PriorityLevel;
+import com.github.amanguss.shopping_list_application.repository.CategoryRepository;
+import com.github.amanguss.shopping_list_application.repository.ItemRepository;
+import com.github.amanguss.shopping_list_application.repository.ListShareRepository;
+import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
+import com.github.amanguss.shopping_list_application.repository.UserRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+    @Param("50")
+    public int users;
+
+    @Param("20")
+    public int listsPerUser;
+
+    @Param("25")
+    public int itemsPerList;
+
+    @Param("5")
+    public int sharesPerUser;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private Integer userId;
+    private Integer shoppingListId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"));
+        args.addAll(extraArguments());
+
+        context = new SpringApplicationBuilder(ShoppingListApplication.class)
+                .web(webApplicationType())
+                .run(args.toArray(String[]::new));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.executeWithoutResult(status -> seed());
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    protected WebApplicationType webApplicationType() {
+        return WebApplicationType.NONE;
+    }
+
+    protected List<String> extraArguments() {
+        return List.of();
+    }
+
+    protected ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public <T> T inTransaction(Supplier<T> call) {
+        return transactionTemplate.execute(status -> call.get());
+    }
+
+    public Integer userId() {
+        return userId;
+    }
+
+    public Integer shoppingListId() {
+        return shoppingListId;
+    }
+
+    private void seed() {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        CategoryRepository categoryRepository = context.getBean(CategoryRepository.class);
+        ShoppingListRepository shoppingListRepository = context.getBean(ShoppingListRepository.class);
+        ItemRepository itemRepository = context.getBean(ItemRepository.class);
+        ListShareRepository listShareRepository = context.getBean(ListShareRepository.class);
+        LocalDateTime now = LocalDateTime.now();
+
+        Category category = new Category();
+        category.setName("Groceries");
+        category.setIsSystemCategory(true);
+        category.setCreationDate(now);
+        category.setDisplayOrder(1);
+        category = categoryRepository.save(category);
+
+        List<User> seededUsers = new ArrayList<>();
+        for (int u = 0; u < users; u++) {
+            User user = new User();
+            user.setFirstName("First" + u);
+            user.setLastName("Last" + u);
+            user.setEmail("user" + u + "@example.com");
+            user.setPassword("password");
+            user.setRegistrationDate(now);
+            user.setAccountStatus(AccountStatus.ACTIVE);
+            user.setIsVerified(true);
+            seededUsers.add(user);
+        }
+        seededUsers = userRepository.saveAll(seededUsers);
+
+        List<ShoppingList> seededLists = new ArrayList<>();
+        for (User owner : seededUsers) {
+            for (int l = 0; l < listsPerUser; l++) {
+                Budget budget = new Budget();
+                budget.setLimit(500.0);
+                budget.setCurrency("USD");
+                budget.setPeriod(Period.MONTHLY);
+                budget.setCreationDate(now);
+                budget.setIsActive(true);
+
+                ShoppingList list = new ShoppingList();
+                list.setName("List " + l + " of " + owner.getFirstName());
+                list.setCreationDate(now.minusMinutes(l));
+                list.setStatus(ListStatus.ACTIVE);
+                list.setIsTemplate(false);
+                list.setPriority(PriorityLevel.MEDIUM);
+                list.setOwner(owner);
+                list.setBudget(budget);
+                budget.setShoppingList(list);
+                seededLists.add(list);
+            }
+        }
+        seededLists = shoppingListRepository.saveAll(seededLists);
+
+        List<Item> seededItems = new ArrayList<>();
+        for (ShoppingList list : seededLists) {
+            for (int i = 0; i < itemsPerList; i++) {
+                Item item = new Item();
+                item.setName("Item " + i);
+                item.setQuantity(1.0);
+                item.setEstimatedPrice(2.5);
+                item.setPriority(PriorityLevel.MEDIUM);
+                item.setIsPurchased(i % 3 == 0);
+                item.setAddedDate(now.minusSeconds(i));
+                item.setShoppingList(list);
+                item.setCategory(category);
+                seededItems.add(item);
+            }
+        }
+        itemRepository.saveAll(seededItems);
+
+        List<ListShare> seededShares = new ArrayList<>();
+        for (int u = 0; u < seededUsers.size(); u++) {
+            User sharedTo = seededUsers.get(u);
+            for (int s = 1; s <= sharesPerUser && s < seededUsers.size(); s++) {
+                User sharedBy = seededUsers.get((u + s) % seededUsers.size());
+                ListShare share = new ListShare();
+                share.setPermission(Permission.VIEW);
+                share.setSharedDate(now);
+                share.setIsActive(true);
+                share.setShoppingList(seededLists.get(((u + s) % seededUsers.size()) * listsPerUser));
+                share.setSharedBy(sharedBy);
+                share.setSharedTo(sharedTo);
+                seededShares.add(share);
+            }
+        }
+        listShareRepository.saveAll(seededShares);
+
+        userId = seededUsers.get(0).getId();
+        shoppingListId = seededLists.get(0).getId();
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.amanguss.shopping_list_application.benchmark;
+
+import com.github.amanguss.shopping_list_application.dto.budget.BudgetResponseDto;
+import com.github.amanguss.shopping_list_application.dto.item.ItemResponseDto;
+import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListResponseDto;
+import com.github.amanguss.shopping_list_application.service.BudgetService;
+import com.github.amanguss.shopping_list_application.service.ItemService;
+import com.github.amanguss.shopping_list_application.service.ListShareService;
+import com.github.amanguss.shopping_list_application.service.ShoppingListService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceLayerBenchmark {
+
+    private ShoppingListService shoppingListService;
+    private ItemService itemService;
+    private BudgetService budgetService;
+    private ListShareService listShareService;
+
+    @Setup(Level.Trial)
+    public void lookupServices(SeededApplication application) {
+        shoppingListService = application.bean(ShoppingListService.class);
+        itemService = application.bean(ItemService.class);
+        budgetService = application.bean(BudgetService.class);
+        listShareService = application.bean(ListShareService.class);
+    }
+
+    @Benchmark
+    public List<ShoppingListResponseDto> getAccessibleLists(SeededApplication application) {
+        return application.inTransaction(() -> shoppingListService.getAccessibleLists(application.userId()));
+    }
+
+    @Benchmark
+    public List<ItemResponseDto> getItemsByShoppingList(SeededApplication application) {
+        return application.inTransaction(() -> itemService.getItemsByShoppingList(application.shoppingListId()));
+    }
+
+    @Benchmark
+    public List<BudgetResponseDto> getBudgetsByUserId(SeededApplication application) {
+        return application.inTransaction(() -> budgetService.getBudgetsByUserId(application.userId()));
+    }
+
+    @Benchmark
+    public List<ShoppingListResponseDto> getSharedShoppingListsByUser(SeededApplication application) {
+        return application.inTransaction(() -> listShareService.getSharedShoppingListsByUser(application.userId()));
+    }
+}
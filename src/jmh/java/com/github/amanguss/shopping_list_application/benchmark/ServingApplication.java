@@ -0,0 +1,36 @@
+package com.github.amanguss.shopping_list_application.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.net.URI;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class ServingApplication extends SeededApplication {
+
+    @Param({"default", "virtual-threads"})
+    public String profile;
+
+    @Override
+    protected WebApplicationType webApplicationType() {
+        return WebApplicationType.SERVLET;
+    }
+
+    @Override
+    protected List<String> extraArguments() {
+        return List.of("--server.port=0",
+                "--spring.profiles.active=" + profile,
+                "--spring.datasource.hikari.maximum-pool-size=10",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.thymeleaf=WARN");
+    }
+
+    public URI uri(String path) {
+        int port = ((WebServerApplicationContext) context()).getWebServer().getPort();
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -2,11 +2,13 @@ package com.github.amanguss.shopping_list_application;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @EnableScheduling
 @EnableTransactionManagement
+@ConfigurationPropertiesScan
 @SpringBootApplication
 public class ShoppingListApplication {
 
@@ -0,0 +1,26 @@
+package com.github.amanguss.shopping_list_application.analytics;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+record CommitSnapshot(long xmin, long xmax, Set<Long> inProgress) {
+
+    static CommitSnapshot parse(String snapshot) {
+        String[] parts = snapshot.split(":", -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid transaction snapshot: " + snapshot);
+        }
+        Set<Long> inProgress = parts[2].isEmpty()
+                ? Set.of()
+                : Arrays.stream(parts[2].split(",")).map(Long::valueOf).collect(Collectors.toUnmodifiableSet());
+        return new CommitSnapshot(Long.parseLong(parts[0]), Long.parseLong(parts[1]), inProgress);
+    }
+
+    boolean includes(Long transactionId) {
+        if (transactionId == null || transactionId < xmin) {
+            return true;
+        }
+        return transactionId < xmax && !inProgress.contains(transactionId);
+    }
+}
@@ -0,0 +1,229 @@
+package com.github.amanguss.shopping_list_application.analytics;
+
+import com.github.amanguss.shopping_list_application.repository.projection.SpendCell;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+public class SpendCube {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Cell, Integer> rowsByCell = new HashMap<>();
+    private final Map<Integer, RowList> rowsByOwner = new HashMap<>();
+
+    private int size;
+    private int[] owners = new int[INITIAL_CAPACITY];
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private int[] months = new int[INITIAL_CAPACITY];
+    private double[] spent = new double[INITIAL_CAPACITY];
+    private double[] estimated = new double[INITIAL_CAPACITY];
+    private long[] purchases = new long[INITIAL_CAPACITY];
+
+    public SpendCube(ForkJoinPool pool, int parallelThreshold) {
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public static int monthIndex(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    public static YearMonth yearMonth(int monthIndex) {
+        return YearMonth.of(Math.floorDiv(monthIndex, 12), Math.floorMod(monthIndex, 12) + 1);
+    }
+
+    public void add(int ownerId, int key, int month, double spentDelta, double estimatedDelta, long purchaseDelta) {
+        lock.writeLock().lock();
+        try {
+            int row = row(ownerId, key, month);
+            spent[row] += spentDelta;
+            estimated[row] += estimatedDelta;
+            purchases[row] += purchaseDelta;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void load(Collection<? extends SpendCell> cells) {
+        lock.writeLock().lock();
+        try {
+            cells.forEach(this::addCell);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replaceOwner(int ownerId, Collection<? extends SpendCell> cells) {
+        lock.writeLock().lock();
+        try {
+            RowList rows = rowsByOwner.get(ownerId);
+            if (rows != null) {
+                for (int i = 0; i < rows.size; i++) {
+                    int row = rows.rows[i];
+                    spent[row] = 0.0;
+                    estimated[row] = 0.0;
+                    purchases[row] = 0;
+                }
+            }
+            cells.forEach(this::addCell);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Integer findOwner(int key) {
+        lock.readLock().lock();
+        try {
+            int[] rowKeys = keys;
+            int[] rowOwners = owners;
+            int rowCount = size;
+            return pool.submit(() -> scan(IntStream.range(0, rowCount), rowCount)
+                            .filter(row -> rowKeys[row] == key)
+                            .mapToObj(row -> rowOwners[row])
+                            .findAny()
+                            .orElse(null))
+                    .join();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<Long, Totals> aggregate(int ownerId, int fromMonth, int toMonth, boolean byMonth) {
+        lock.readLock().lock();
+        try {
+            RowList rows = rowsByOwner.get(ownerId);
+            if (rows == null) {
+                return Map.of();
+            }
+
+            int[] rowKeys = keys;
+            int[] rowMonths = months;
+            double[] rowSpent = spent;
+            double[] rowEstimated = estimated;
+            long[] rowPurchases = purchases;
+            IntStream source = Arrays.stream(rows.rows, 0, rows.size);
+            return pool.submit(() -> scan(source, rows.size)
+                            .filter(row -> rowMonths[row] >= fromMonth && rowMonths[row] <= toMonth)
+                            .collect(HashMap<Long, Totals>::new,
+                                    (totals, row) -> totals.computeIfAbsent(group(rowKeys[row], rowMonths[row], byMonth),
+                                                    group -> new Totals())
+                                            .add(rowSpent[row], rowEstimated[row], rowPurchases[row]),
+                                    (left, right) -> right.forEach((group, totals) -> left.merge(group, totals, Totals::merge))))
+                    .join();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static int groupKey(long group) {
+        return (int) (group >> 32);
+    }
+
+    public static int groupMonth(long group) {
+        return (int) group;
+    }
+
+    private static long group(int key, int month, boolean byMonth) {
+        return ((long) key << 32) | (byMonth ? month & 0xffffffffL : 0L);
+    }
+
+    private IntStream scan(IntStream rows, int count) {
+        return count >= parallelThreshold ? rows.parallel() : rows;
+    }
+
+    private void addCell(SpendCell cell) {
+        int row = row(cell.getOwnerId(), cell.getDimensionId(), cell.getMonth());
+        spent[row] += cell.getSpent() != null ? cell.getSpent() : 0.0;
+        estimated[row] += cell.getEstimated() != null ? cell.getEstimated() : 0.0;
+        purchases[row] += cell.getPurchases() != null ? cell.getPurchases() : 0L;
+    }
+
+    private int row(int ownerId, int key, int month) {
+        return rowsByCell.computeIfAbsent(new Cell(ownerId, key, month), cell -> {
+            if (size == owners.length) {
+                grow();
+            }
+            int row = size++;
+            owners[row] = ownerId;
+            keys[row] = key;
+            months[row] = month;
+            rowsByOwner.computeIfAbsent(ownerId, owner -> new RowList()).add(row);
+            return row;
+        });
+    }
+
+    private void grow() {
+        int capacity = owners.length * 2;
+        owners = Arrays.copyOf(owners, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        months = Arrays.copyOf(months, capacity);
+        spent = Arrays.copyOf(spent, capacity);
+        estimated = Arrays.copyOf(estimated, capacity);
+        purchases = Arrays.copyOf(purchases, capacity);
+    }
+
+    public static final class Totals {
+
+        private double spent;
+        private double estimated;
+        private long purchases;
+
+        void add(double spentDelta, double estimatedDelta, long purchaseDelta) {
+            spent += spentDelta;
+            estimated += estimatedDelta;
+            purchases += purchaseDelta;
+        }
+
+        Totals merge(Totals other) {
+            add(other.spent, other.estimated, other.purchases);
+            return this;
+        }
+
+        public double spent() {
+            return spent;
+        }
+
+        public double estimated() {
+            return estimated;
+        }
+
+        public long purchases() {
+            return purchases;
+        }
+    }
+
+    private record Cell(int ownerId, int key, int month) {
+    }
+
+    private static final class RowList {
+
+        private int[] rows = new int[8];
+        private int size;
+
+        void add(int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+    }
+}
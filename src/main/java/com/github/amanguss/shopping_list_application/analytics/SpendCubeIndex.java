@@ -0,0 +1,199 @@
+package com.github.amanguss.shopping_list_application.analytics;
+
+import com.github.amanguss.shopping_list_application.config.AnalyticsProperties;
+import com.github.amanguss.shopping_list_application.dto.analytics.PurchaseSpendDto;
+import com.github.amanguss.shopping_list_application.dto.analytics.SpendDeltaDto;
+import com.github.amanguss.shopping_list_application.dto.analytics.SpendInvalidatedDto;
+import com.github.amanguss.shopping_list_application.repository.ItemRepository;
+import com.github.amanguss.shopping_list_application.repository.SpendRollupRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+@Slf4j
+@Component
+public class SpendCubeIndex {
+
+    private final ItemRepository itemRepository;
+    private final SpendRollupRepository spendRollupRepository;
+    private final TransactionTemplate snapshotTransaction;
+    private final TransactionTemplate primaryTransaction;
+    private final AnalyticsProperties properties;
+    private final ForkJoinPool pool;
+
+    private final Object eventLock = new Object();
+
+    private volatile Cubes cubes;
+    private List<SpendDeltaDto> pendingDeltas;
+    private List<SpendInvalidatedDto> pendingInvalidations;
+
+    public SpendCubeIndex(ItemRepository itemRepository,
+                          SpendRollupRepository spendRollupRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          AnalyticsProperties properties) {
+        this.itemRepository = itemRepository;
+        this.spendRollupRepository = spendRollupRepository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.pool = new ForkJoinPool(properties.parallelism() > 0
+                ? properties.parallelism()
+                : Runtime.getRuntime().availableProcessors());
+        this.cubes = emptyCubes(horizonStart());
+        Gauge.builder("analytics.cube.rows", this, index -> index.cubes.categories().size() + index.cubes.lists().size())
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            int rows = rebuild();
+            log.info("Spend analytics cubes built with {} rows", rows);
+        } catch (Exception e) {
+            log.error("Error building spend analytics cubes", e);
+        }
+    }
+
+    public synchronized int rebuild() {
+        int horizonStart = horizonStart();
+        Cubes rebuilt = emptyCubes(horizonStart);
+        List<SpendInvalidatedDto> missedInvalidations;
+        synchronized (eventLock) {
+            pendingDeltas = new ArrayList<>();
+            pendingInvalidations = new ArrayList<>();
+        }
+        try {
+            CommitSnapshot snapshot = snapshotTransaction.execute(status -> {
+                CommitSnapshot taken = CommitSnapshot.parse(spendRollupRepository.currentSnapshot());
+                rebuilt.categories().load(itemRepository.findCategorySpendCells(since(horizonStart)));
+                rebuilt.lists().load(itemRepository.findListSpendCells(since(horizonStart)));
+                return taken;
+            });
+            synchronized (eventLock) {
+                pendingDeltas.stream()
+                        .filter(delta -> !snapshot.includes(delta.getTransactionId()))
+                        .forEach(delta -> apply(rebuilt, delta));
+                missedInvalidations = pendingInvalidations.stream()
+                        .filter(invalidated -> !snapshot.includes(invalidated.getTransactionId()))
+                        .toList();
+                cubes = rebuilt;
+            }
+        } finally {
+            synchronized (eventLock) {
+                pendingDeltas = null;
+                pendingInvalidations = null;
+            }
+        }
+        missedInvalidations.forEach(invalidated -> reload(rebuilt, invalidated.getShoppingListId()));
+        return rebuilt.categories().size() + rebuilt.lists().size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpendDelta(SpendDeltaDto delta) {
+        synchronized (eventLock) {
+            apply(cubes, delta);
+            if (pendingDeltas != null) {
+                pendingDeltas.add(delta);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpendInvalidated(SpendInvalidatedDto invalidated) {
+        Cubes current;
+        synchronized (eventLock) {
+            current = cubes;
+            if (pendingInvalidations != null) {
+                pendingInvalidations.add(invalidated);
+            }
+        }
+        reload(current, invalidated.getShoppingListId());
+    }
+
+    public SpendCube categories() {
+        return cubes.categories();
+    }
+
+    public SpendCube lists() {
+        return cubes.lists();
+    }
+
+    public YearMonth horizon() {
+        return SpendCube.yearMonth(cubes.horizonStart());
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdown();
+    }
+
+    private void reload(Cubes current, Integer shoppingListId) {
+        Integer ownerId = current.lists().findOwner(shoppingListId);
+        if (ownerId == null) {
+            return;
+        }
+        try {
+            primaryTransaction.executeWithoutResult(status -> {
+                current.categories().replaceOwner(ownerId,
+                        itemRepository.findCategorySpendCellsByOwner(ownerId, since(current.horizonStart())));
+                current.lists().replaceOwner(ownerId,
+                        itemRepository.findListSpendCellsByOwner(ownerId, since(current.horizonStart())));
+            });
+        } catch (Exception e) {
+            log.warn("Failed to reload spend analytics for owner {}", ownerId, e);
+        }
+    }
+
+    private void apply(Cubes current, SpendDeltaDto delta) {
+        delta.getRemoved().forEach(purchase -> apply(current, purchase, -1));
+        delta.getAdded().forEach(purchase -> apply(current, purchase, 1));
+    }
+
+    private void apply(Cubes current, PurchaseSpendDto purchase, int sign) {
+        int month = SpendCube.monthIndex(YearMonth.from(purchase.getPurchasedOn()));
+        if (month < current.horizonStart()) {
+            return;
+        }
+        if (purchase.getCategoryId() != null) {
+            current.categories().add(purchase.getOwnerId(), purchase.getCategoryId(), month,
+                    sign * purchase.getSpent(), sign * purchase.getEstimated(), sign);
+        }
+        current.lists().add(purchase.getOwnerId(), purchase.getShoppingListId(), month,
+                sign * purchase.getSpent(), sign * purchase.getEstimated(), sign);
+    }
+
+    private Cubes emptyCubes(int horizonStart) {
+        return new Cubes(new SpendCube(pool, properties.parallelThreshold()),
+                new SpendCube(pool, properties.parallelThreshold()), horizonStart);
+    }
+
+    private int horizonStart() {
+        return SpendCube.monthIndex(YearMonth.now().minusMonths(properties.horizonMonths() - 1L));
+    }
+
+    private static LocalDateTime since(int horizonStart) {
+        return SpendCube.yearMonth(horizonStart).atDay(1).atStartOfDay();
+    }
+
+    private record Cubes(SpendCube categories, SpendCube lists, int horizonStart) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.amanguss.shopping_list_application.composition;
+
+import com.github.amanguss.shopping_list_application.config.PageCompositionConfig;
+import com.github.amanguss.shopping_list_application.config.PageCompositionProperties;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+@Component
+public class PageComposer {
+
+    private final Executor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration deadline;
+
+    public PageComposer(@Qualifier(PageCompositionConfig.EXECUTOR) Executor executor,
+                        PlatformTransactionManager transactionManager,
+                        PageCompositionProperties properties) {
+        this.executor = executor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.deadline = properties.deadline();
+    }
+
+    public PageComposition begin() {
+        return new PageComposition(executor, readOnlyTransaction, System.nanoTime() + deadline.toNanos());
+    }
+}
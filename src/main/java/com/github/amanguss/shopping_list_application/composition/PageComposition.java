@@ -0,0 +1,78 @@
+package com.github.amanguss.shopping_list_application.composition;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Slf4j
+public class PageComposition {
+
+    private final Executor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long deadlineNanos;
+
+    PageComposition(Executor executor, TransactionTemplate readOnlyTransaction, long deadlineNanos) {
+        this.executor = executor;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public <T> Part<T> fetch(Supplier<T> call) {
+        return new Part<>(submit(call), null);
+    }
+
+    public <T> Part<T> fetch(Supplier<T> call, Supplier<T> fallback) {
+        return new Part<>(submit(call), fallback);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> call.get()), executor);
+    }
+
+    public final class Part<T> {
+
+        private final CompletableFuture<T> future;
+        private final Supplier<T> fallback;
+
+        private Part(CompletableFuture<T> future, Supplier<T> fallback) {
+            this.future = future;
+            this.fallback = fallback;
+        }
+
+        public T get() {
+            long remaining = Math.max(deadlineNanos - System.nanoTime(), 0);
+            try {
+                return future.get(remaining, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                return fallBack(new IllegalStateException("Page composition deadline exceeded", e));
+            } catch (ExecutionException e) {
+                return fallBack(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return fallBack(new IllegalStateException("Page composition interrupted", e));
+            }
+        }
+
+        private T fallBack(Throwable failure) {
+            if (fallback != null) {
+                log.warn("Page part failed, using fallback: {}", failure.toString());
+                return fallback.get();
+            }
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Page composition failed", failure);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.amanguss.shopping_list_application.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+@Slf4j
+@Aspect
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class RetryOnConflictAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        String className = ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+        int attempt = 1;
+        while (true) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= retryOnConflict.maxAttempts()) {
+                    throw e;
+                }
+                log.debug("Optimistic lock conflict in {}.{}, attempt {}", className, methodName, attempt);
+                meterRegistry.counter("optimistic.lock.retries",
+                        "class", className,
+                        "method", methodName).increment();
+                attempt++;
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.amanguss.shopping_list_application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "analytics")
+public record AnalyticsProperties(@DefaultValue("24") int horizonMonths,
+                                  @DefaultValue("0") int parallelism,
+                                  @DefaultValue("4096") int parallelThreshold,
+                                  @DefaultValue("100") int maxTopLists) {
+}
@@ -0,0 +1,29 @@
+package com.github.amanguss.shopping_list_application.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.cache.interceptor.SimpleCacheResolver;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig implements CachingConfigurer {
+
+    public static final String CATEGORIES = "categories";
+    public static final String CATEGORY = "category";
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    public CacheConfig(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public CacheResolver cacheResolver() {
+        return new SimpleCacheResolver(new TransactionAwareCacheManagerProxy(cacheManager.getObject()));
+    }
+}
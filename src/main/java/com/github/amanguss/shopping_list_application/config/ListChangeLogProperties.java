@@ -0,0 +1,14 @@
+package com.github.amanguss.shopping_list_application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "list-sync.change-log")
+public record ListChangeLogProperties(@DefaultValue("14d") Duration retention,
+                                      @DefaultValue("1000") int maxChanges,
+                                      @DefaultValue("1000") int batchSize,
+                                      @DefaultValue("50") int maxBatchesPerRun,
+                                      @DefaultValue("200ms") Duration batchPause) {
+}
@@ -0,0 +1,32 @@
+package com.github.amanguss.shopping_list_application.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ListSyncConfig {
+
+    public static final String EXECUTOR = "listSyncExecutor";
+
+    @Bean(EXECUTOR)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor listSyncExecutor(ListSyncProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.poolSize());
+        executor.setMaxPoolSize(properties.poolSize());
+        executor.setThreadNamePrefix("list-sync-");
+        return executor;
+    }
+
+    @Bean(EXECUTOR)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualListSyncExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("list-sync-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
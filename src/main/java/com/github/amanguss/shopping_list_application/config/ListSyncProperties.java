@@ -0,0 +1,13 @@
+package com.github.amanguss.shopping_list_application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "list-sync")
+public record ListSyncProperties(@DefaultValue("4") int poolSize,
+                                 @DefaultValue("64") int queueCapacity,
+                                 @DefaultValue("15s") Duration heartbeat,
+                                 @DefaultValue("30m") Duration timeout) {
+}
@@ -0,0 +1,28 @@
+package com.github.amanguss.shopping_list_application.config;
+
+import com.github.amanguss.shopping_list_application.metrics.SqlStatementCounter;
+import com.github.amanguss.shopping_list_application.routing.ReplicaRoutingContext;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class PageCompositionConfig {
+
+    public static final String EXECUTOR = "pageCompositionExecutor";
+
+    @Bean(EXECUTOR)
+    public ThreadPoolTaskExecutor pageCompositionExecutor(PageCompositionProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.poolSize());
+        executor.setMaxPoolSize(properties.poolSize());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setThreadNamePrefix("page-composition-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(task -> ReplicaRoutingContext.propagate(SqlStatementCounter.propagate(task)));
+        return executor;
+    }
+}
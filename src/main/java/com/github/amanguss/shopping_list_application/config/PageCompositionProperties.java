@@ -0,0 +1,12 @@
+package com.github.amanguss.shopping_list_application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "page-composition")
+public record PageCompositionProperties(@DefaultValue("8") int poolSize,
+                                        @DefaultValue("200") int queueCapacity,
+                                        @DefaultValue("3s") Duration deadline) {
+}
@@ -0,0 +1,10 @@
+package com.github.amanguss.shopping_list_application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "replica")
+public record ReplicaRoutingProperties(@DefaultValue("5s") Duration readYourWritesWindow) {
+}
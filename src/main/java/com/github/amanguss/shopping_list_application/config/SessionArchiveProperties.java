@@ -0,0 +1,13 @@
+package com.github.amanguss.shopping_list_application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "maintenance.session-archive")
+public record SessionArchiveProperties(@DefaultValue("30d") Duration retention,
+                                       @DefaultValue("1000") int batchSize,
+                                       @DefaultValue("50") int maxBatchesPerRun,
+                                       @DefaultValue("200ms") Duration batchPause) {
+}
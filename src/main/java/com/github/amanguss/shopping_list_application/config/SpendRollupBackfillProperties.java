@@ -0,0 +1,11 @@
+package com.github.amanguss.shopping_list_application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "maintenance.spend-rollup-backfill")
+public record SpendRollupBackfillProperties(@DefaultValue("500") int maxOwnersPerRun,
+                                            @DefaultValue("50ms") Duration ownerPause) {
+}
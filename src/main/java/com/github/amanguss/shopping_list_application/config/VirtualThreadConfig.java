@@ -0,0 +1,29 @@
+package com.github.amanguss.shopping_list_application.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(),
+                            Duration.ofMillis(hikari.getConnectionTimeout()));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.amanguss.shopping_list_application.controller.api;
+
+import com.github.amanguss.shopping_list_application.dto.analytics.CategoryMonthSpendDto;
+import com.github.amanguss.shopping_list_application.dto.analytics.CategoryVarianceDto;
+import com.github.amanguss.shopping_list_application.dto.analytics.ListSpendDto;
+import com.github.amanguss.shopping_list_application.service.AnalyticsService;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    @GetMapping("/users/{userId}/category-spend")
+    public ResponseEntity<List<CategoryMonthSpendDto>> getCategorySpend(@PathVariable Integer userId,
+                                                                        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+                                                                        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        List<CategoryMonthSpendDto> spend = analyticsService.getCategorySpend(userId, from, to);
+        return ResponseEntity.ok(spend);
+    }
+
+    @GetMapping("/users/{userId}/category-variance")
+    public ResponseEntity<List<CategoryVarianceDto>> getCategoryVariance(@PathVariable Integer userId,
+                                                                         @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+                                                                         @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        List<CategoryVarianceDto> variance = analyticsService.getCategoryVariance(userId, from, to);
+        return ResponseEntity.ok(variance);
+    }
+
+    @GetMapping("/users/{userId}/top-lists")
+    public ResponseEntity<List<ListSpendDto>> getTopLists(@PathVariable Integer userId,
+                                                          @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+                                                          @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+                                                          @RequestParam(required = false) Integer limit) {
+        List<ListSpendDto> lists = analyticsService.getTopLists(userId, from, to, limit);
+        return ResponseEntity.ok(lists);
+    }
+}
@@ -2,9 +2,15 @@ package com.github.amanguss.shopping_list_application.controller.api;
 
 import com.github.amanguss.shopping_list_application.dto.budget.BudgetCreateDto;
 import com.github.amanguss.shopping_list_application.dto.budget.BudgetResponseDto;
+import com.github.amanguss.shopping_list_application.dto.spend.CategorySpendDto;
+import com.github.amanguss.shopping_list_application.dto.spend.SpendBucketDto;
 import com.github.amanguss.shopping_list_application.entity.enums.Period;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupDimension;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupPeriod;
 import com.github.amanguss.shopping_list_application.service.BudgetService;
+import com.github.amanguss.shopping_list_application.service.SpendRollupService;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 
 import jakarta.validation.Valid;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -21,6 +28,7 @@ import java.util.List;
 public class BudgetController {
 
     private final BudgetService budgetService;
+    private final SpendRollupService spendRollupService;
 
     @PostMapping
     public ResponseEntity<BudgetResponseDto> createBudget(@RequestParam Integer shoppingListId, @Valid @RequestBody BudgetCreateDto dto) {
@@ -105,4 +113,34 @@ public class BudgetController {
         boolean isOver = budgetService.isOverBudget(id);
         return ResponseEntity.ok(isOver);
     }
+
+    @GetMapping("/{id}/period-spent")
+    public ResponseEntity<Double> getPeriodSpent(@PathVariable Integer id) {
+        Double spent = budgetService.getPeriodSpent(id);
+        return ResponseEntity.ok(spent);
+    }
+
+    @GetMapping("/{id}/spend-history")
+    public ResponseEntity<List<SpendBucketDto>> getSpendHistory(@PathVariable Integer id,
+                                                                @RequestParam(required = false) Integer buckets) {
+        List<SpendBucketDto> history = budgetService.getSpendHistory(id, buckets);
+        return ResponseEntity.ok(history);
+    }
+
+    @GetMapping("/user/{userId}/spend")
+    public ResponseEntity<List<SpendBucketDto>> getUserSpendHistory(@PathVariable Integer userId,
+                                                                    @RequestParam(defaultValue = "MONTH") RollupPeriod period,
+                                                                    @RequestParam(required = false) Integer buckets) {
+        List<SpendBucketDto> history = spendRollupService.getSpendHistory(userId, RollupDimension.OWNER, userId, period, buckets);
+        return ResponseEntity.ok(history);
+    }
+
+    @GetMapping("/user/{userId}/category-spend")
+    public ResponseEntity<List<CategorySpendDto>> getUserCategorySpend(@PathVariable Integer userId,
+                                                                       @RequestParam(defaultValue = "MONTH") RollupPeriod period,
+                                                                       @RequestParam(required = false)
+                                                                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        List<CategorySpendDto> spend = spendRollupService.getCategorySpend(userId, period, date);
+        return ResponseEntity.ok(spend);
+    }
 }
\ No newline at end of file
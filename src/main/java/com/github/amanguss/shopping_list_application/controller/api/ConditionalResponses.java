@@ -0,0 +1,31 @@
+package com.github.amanguss.shopping_list_application.controller.api;
+
+import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListVersionDto;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+import java.util.function.Supplier;
+
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    static <T> ResponseEntity<T> forListVersion(WebRequest request, ShoppingListVersionDto version, Supplier<T> body) {
+        long lastModified = version.getLastModifiedDate() != null
+                ? version.getLastModifiedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+        if (request.checkNotModified(version.toETag(), lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(body.get());
+    }
+}
@@ -1,13 +1,20 @@
 package com.github.amanguss.shopping_list_application.controller.api;
 
+import com.github.amanguss.shopping_list_application.dto.item.ItemBulkCreateDto;
+import com.github.amanguss.shopping_list_application.dto.item.ItemBulkPurchaseDto;
+import com.github.amanguss.shopping_list_application.dto.item.ItemBulkUpdateDto;
 import com.github.amanguss.shopping_list_application.dto.item.ItemCreateDto;
 import com.github.amanguss.shopping_list_application.dto.item.ItemResponseDto;
+import com.github.amanguss.shopping_list_application.dto.page.CursorPageResponseDto;
+import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListVersionDto;
 import com.github.amanguss.shopping_list_application.entity.enums.PriorityLevel;
 import com.github.amanguss.shopping_list_application.service.ItemService;
+import com.github.amanguss.shopping_list_application.service.ShoppingListService;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,6 +28,7 @@ import java.util.List;
 public class ItemController {
 
     private final ItemService itemService;
+    private final ShoppingListService shoppingListService;
 
     @PostMapping
     public ResponseEntity<ItemResponseDto> createItem(@RequestParam Integer shoppingListId, @Valid @RequestBody ItemCreateDto dto) {
@@ -28,6 +36,36 @@ public class ItemController {
         return new ResponseEntity<>(created, HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<ItemResponseDto>> createItems(@RequestParam Integer shoppingListId, @Valid @RequestBody ItemBulkCreateDto dto) {
+        List<ItemResponseDto> created = itemService.createItems(shoppingListId, dto.getItems());
+        return new ResponseEntity<>(created, HttpStatus.CREATED);
+    }
+
+    @PostMapping("/bulk/purchase")
+    public ResponseEntity<List<ItemResponseDto>> markItemsAsPurchased(@Valid @RequestBody ItemBulkPurchaseDto dto) {
+        List<ItemResponseDto> updated = itemService.markItemsAsPurchased(dto.getPurchases());
+        return ResponseEntity.ok(updated);
+    }
+
+    @PostMapping("/bulk/unpurchase")
+    public ResponseEntity<List<ItemResponseDto>> markItemsAsUnpurchased(@Valid @RequestBody ItemBulkUpdateDto dto) {
+        List<ItemResponseDto> updated = itemService.markItemsAsUnpurchased(dto.getItemIds());
+        return ResponseEntity.ok(updated);
+    }
+
+    @PutMapping("/bulk/priority")
+    public ResponseEntity<List<ItemResponseDto>> updateItemsPriority(@Valid @RequestBody ItemBulkUpdateDto dto) {
+        List<ItemResponseDto> updated = itemService.updateItemsPriority(dto.getItemIds(), dto.getPriority());
+        return ResponseEntity.ok(updated);
+    }
+
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<Void> deleteItems(@Valid @RequestBody ItemBulkUpdateDto dto) {
+        itemService.deleteItems(dto.getItemIds());
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ItemResponseDto> getItemById(@PathVariable Integer id) {
         ItemResponseDto item = itemService.getItemById(id);
@@ -35,9 +73,9 @@ public class ItemController {
     }
 
     @GetMapping("/shopping-list/{shoppingListId}")
-    public ResponseEntity<List<ItemResponseDto>> getItemsByShoppingList(@PathVariable Integer shoppingListId) {
-        List<ItemResponseDto> items = itemService.getItemsByShoppingList(shoppingListId);
-        return ResponseEntity.ok(items);
+    public ResponseEntity<List<ItemResponseDto>> getItemsByShoppingList(@PathVariable Integer shoppingListId, WebRequest request) {
+        ShoppingListVersionDto version = shoppingListService.getShoppingListVersion(shoppingListId);
+        return ConditionalResponses.forListVersion(request, version, () -> itemService.getItemsByShoppingList(shoppingListId));
     }
 
     @GetMapping("/shopping-list/{shoppingListId}/purchased")
@@ -64,6 +102,46 @@ public class ItemController {
         return ResponseEntity.ok(items);
     }
 
+    @GetMapping("/shopping-list/{shoppingListId}/page")
+    public ResponseEntity<CursorPageResponseDto<ItemResponseDto>> getItemPageByShoppingList(@PathVariable Integer shoppingListId,
+                                                                                           @RequestParam(required = false) String cursor,
+                                                                                           @RequestParam(required = false) Integer size) {
+        CursorPageResponseDto<ItemResponseDto> page = itemService.getItemPageByShoppingList(shoppingListId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/shopping-list/{shoppingListId}/purchased/page")
+    public ResponseEntity<CursorPageResponseDto<ItemResponseDto>> getPurchasedItemPageByShoppingList(@PathVariable Integer shoppingListId,
+                                                                                                    @RequestParam(required = false) String cursor,
+                                                                                                    @RequestParam(required = false) Integer size) {
+        CursorPageResponseDto<ItemResponseDto> page = itemService.getPurchasedItemPageByShoppingList(shoppingListId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/shopping-list/{shoppingListId}/unpurchased/page")
+    public ResponseEntity<CursorPageResponseDto<ItemResponseDto>> getUnpurchasedItemPageByShoppingList(@PathVariable Integer shoppingListId,
+                                                                                                      @RequestParam(required = false) String cursor,
+                                                                                                      @RequestParam(required = false) Integer size) {
+        CursorPageResponseDto<ItemResponseDto> page = itemService.getUnpurchasedItemPageByShoppingList(shoppingListId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/category/{categoryId}/page")
+    public ResponseEntity<CursorPageResponseDto<ItemResponseDto>> getItemPageByCategory(@PathVariable Integer categoryId,
+                                                                                       @RequestParam(required = false) String cursor,
+                                                                                       @RequestParam(required = false) Integer size) {
+        CursorPageResponseDto<ItemResponseDto> page = itemService.getItemPageByCategory(categoryId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/priority/{priority}/page")
+    public ResponseEntity<CursorPageResponseDto<ItemResponseDto>> getItemPageByPriority(@PathVariable PriorityLevel priority,
+                                                                                       @RequestParam(required = false) String cursor,
+                                                                                       @RequestParam(required = false) Integer size) {
+        CursorPageResponseDto<ItemResponseDto> page = itemService.getItemPageByPriority(priority, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ItemResponseDto> updateItem(@PathVariable Integer id, @Valid @RequestBody ItemCreateDto dto) {
         ItemResponseDto updated = itemService.updateItem(id, dto);
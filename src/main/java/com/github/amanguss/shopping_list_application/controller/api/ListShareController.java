@@ -101,8 +101,8 @@ public class ListShareController {
     }
 
     @PostMapping("/cleanup-expired")
-    public ResponseEntity<Void> cleanupExpiredShares() {
-        listShareService.cleanupExpiredShares();
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<Integer> cleanupExpiredShares() {
+        int deactivated = listShareService.cleanupExpiredShares();
+        return ResponseEntity.ok(deactivated);
     }
 }
\ No newline at end of file
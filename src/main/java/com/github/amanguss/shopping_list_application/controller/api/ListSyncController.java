@@ -0,0 +1,50 @@
+package com.github.amanguss.shopping_list_application.controller.api;
+
+import com.github.amanguss.shopping_list_application.dto.sync.ListChangesDto;
+import com.github.amanguss.shopping_list_application.service.ListSyncService;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/shopping-lists")
+@RequiredArgsConstructor
+public class ListSyncController {
+
+    private final ListSyncService listSyncService;
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@PathVariable Integer id,
+                                                @SessionAttribute(name = "userId", required = false) Integer userId) {
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (!listSyncService.canSubscribe(id, userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(listSyncService.subscribe(id, userId));
+    }
+
+    @GetMapping("/{id}/changes")
+    public ResponseEntity<ListChangesDto> getChanges(@PathVariable Integer id,
+                                                     @RequestParam(required = false) Long since,
+                                                     @SessionAttribute(name = "userId", required = false) Integer userId) {
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (!listSyncService.canSubscribe(id, userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(listSyncService.getChanges(id, since));
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.amanguss.shopping_list_application.controller.api;
+
+import com.github.amanguss.shopping_list_application.dto.search.SearchResponseDto;
+import com.github.amanguss.shopping_list_application.dto.search.SearchResultDto;
+import com.github.amanguss.shopping_list_application.service.SearchService;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<SearchResponseDto> search(@RequestParam Integer userId,
+                                                    @RequestParam String q,
+                                                    @RequestParam(required = false) Integer limit) {
+        SearchResponseDto results = searchService.search(userId, q, limit);
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/users")
+    public ResponseEntity<List<SearchResultDto>> searchUsers(@RequestParam String q,
+                                                             @RequestParam(required = false) Integer limit) {
+        List<SearchResultDto> results = searchService.searchUsers(q, limit);
+        return ResponseEntity.ok(results);
+    }
+}
@@ -1,7 +1,9 @@
 package com.github.amanguss.shopping_list_application.controller.api;
 
+import com.github.amanguss.shopping_list_application.dto.page.CursorPageResponseDto;
 import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListCreateDto;
 import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListResponseDto;
+import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListVersionDto;
 import com.github.amanguss.shopping_list_application.entity.enums.ListStatus;
 import com.github.amanguss.shopping_list_application.entity.enums.PriorityLevel;
 import com.github.amanguss.shopping_list_application.service.ShoppingListService;
@@ -9,6 +11,7 @@ import com.github.amanguss.shopping_list_application.service.ShoppingListService
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,9 +33,9 @@ public class ShoppingListController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ShoppingListResponseDto> getShoppingListById(@PathVariable Integer id) {
-        ShoppingListResponseDto shoppingList = shoppingListService.getShoppingListById(id);
-        return ResponseEntity.ok(shoppingList);
+    public ResponseEntity<ShoppingListResponseDto> getShoppingListById(@PathVariable Integer id, WebRequest request) {
+        ShoppingListVersionDto version = shoppingListService.getShoppingListVersion(id);
+        return ConditionalResponses.forListVersion(request, version, () -> shoppingListService.getShoppingListById(id));
     }
 
     @GetMapping("/owner/{ownerId}")
@@ -66,6 +69,48 @@ public class ShoppingListController {
         return ResponseEntity.ok(lists);
     }
 
+    @GetMapping("/owner/{ownerId}/page")
+    public ResponseEntity<CursorPageResponseDto<ShoppingListResponseDto>> getShoppingListPageByOwner(@PathVariable Integer ownerId,
+                                                                                                    @RequestParam(required = false) String cursor,
+                                                                                                    @RequestParam(required = false) Integer size) {
+        CursorPageResponseDto<ShoppingListResponseDto> page = shoppingListService.getShoppingListPageByOwner(ownerId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/owner/{ownerId}/status/{status}/page")
+    public ResponseEntity<CursorPageResponseDto<ShoppingListResponseDto>> getShoppingListPageByOwnerAndStatus(@PathVariable Integer ownerId,
+                                                                                                             @PathVariable ListStatus status,
+                                                                                                             @RequestParam(required = false) String cursor,
+                                                                                                             @RequestParam(required = false) Integer size) {
+        CursorPageResponseDto<ShoppingListResponseDto> page = shoppingListService.getShoppingListPageByOwnerAndStatus(ownerId, status, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/templates/owner/{ownerId}/page")
+    public ResponseEntity<CursorPageResponseDto<ShoppingListResponseDto>> getTemplatePageByOwner(@PathVariable Integer ownerId,
+                                                                                                @RequestParam(required = false) String cursor,
+                                                                                                @RequestParam(required = false) Integer size) {
+        CursorPageResponseDto<ShoppingListResponseDto> page = shoppingListService.getTemplatePageByOwner(ownerId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/accessible/{userId}/page")
+    public ResponseEntity<CursorPageResponseDto<ShoppingListResponseDto>> getAccessibleListPage(@PathVariable Integer userId,
+                                                                                               @RequestParam(required = false) String cursor,
+                                                                                               @RequestParam(required = false) Integer size) {
+        CursorPageResponseDto<ShoppingListResponseDto> page = shoppingListService.getAccessibleListPage(userId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/search/page")
+    public ResponseEntity<CursorPageResponseDto<ShoppingListResponseDto>> searchShoppingListPageByName(@RequestParam Integer ownerId,
+                                                                                                      @RequestParam String name,
+                                                                                                      @RequestParam(required = false) String cursor,
+                                                                                                      @RequestParam(required = false) Integer size) {
+        CursorPageResponseDto<ShoppingListResponseDto> page = shoppingListService.searchShoppingListPageByName(ownerId, name, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ShoppingListResponseDto> updateShoppingList(@PathVariable Integer id, @Valid @RequestBody ShoppingListCreateDto dto) {
         ShoppingListResponseDto updated = shoppingListService.updateShoppingList(id, dto);
@@ -1,5 +1,6 @@
 package com.github.amanguss.shopping_list_application.controller.api;
 
+import com.github.amanguss.shopping_list_application.dto.userSession.BrowserStatisticDto;
 import com.github.amanguss.shopping_list_application.dto.userSession.UserSessionCreateDto;
 import com.github.amanguss.shopping_list_application.dto.userSession.UserSessionResponseDto;
 import com.github.amanguss.shopping_list_application.service.UserSessionService;
@@ -86,8 +87,8 @@ public class UserSessionController {
     }
 
     @GetMapping("/browser-statistics")
-    public ResponseEntity<List<Object[]>> getBrowserStatistics() {
-        List<Object[]> statistics = userSessionService.getBrowserStatistics();
+    public ResponseEntity<List<BrowserStatisticDto>> getBrowserStatistics() {
+        List<BrowserStatisticDto> statistics = userSessionService.getBrowserStatistics();
         return ResponseEntity.ok(statistics);
     }
 }
\ No newline at end of file
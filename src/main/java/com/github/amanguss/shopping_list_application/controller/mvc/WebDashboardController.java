@@ -1,5 +1,7 @@
 package com.github.amanguss.shopping_list_application.controller.mvc;
 
+import com.github.amanguss.shopping_list_application.composition.PageComposer;
+import com.github.amanguss.shopping_list_application.composition.PageComposition;
 import com.github.amanguss.shopping_list_application.service.UserService;
 import com.github.amanguss.shopping_list_application.service.ShoppingListService;
 import com.github.amanguss.shopping_list_application.service.ListShareService;
@@ -13,6 +15,8 @@ import lombok.RequiredArgsConstructor;
 
 import jakarta.servlet.http.HttpSession;
 
+import java.util.List;
+
 @Controller
 @RequiredArgsConstructor
 public class WebDashboardController {
@@ -20,6 +24,7 @@ public class WebDashboardController {
     private final UserService userService;
     private final ShoppingListService shoppingListService;
     private final ListShareService listShareService;
+    private final PageComposer pageComposer;
 
     @GetMapping("/")
     public String home(Model model) {
@@ -34,9 +39,14 @@ public class WebDashboardController {
         }
 
         try {
-            var user = userService.getUserById(userId);
-            var lists = shoppingListService.getShoppingListsByOwner(userId);
-            var sharedLists = listShareService.getSharesReceivedByUser(userId);
+            PageComposition page = pageComposer.begin();
+            var userPart = page.fetch(() -> userService.getUserById(userId));
+            var listsPart = page.fetch(() -> shoppingListService.getShoppingListsByOwner(userId));
+            var sharedListsPart = page.fetch(() -> listShareService.getSharesReceivedByUser(userId), List::of);
+
+            var user = userPart.get();
+            var lists = listsPart.get();
+            var sharedLists = sharedListsPart.get();
 
             long completedLists = lists.stream().filter(list -> ListStatus.ARCHIVED.equals(list.getStatus())).count();
             
@@ -1,5 +1,7 @@
 package com.github.amanguss.shopping_list_application.controller.mvc;
 
+import com.github.amanguss.shopping_list_application.composition.PageComposer;
+import com.github.amanguss.shopping_list_application.composition.PageComposition;
 import com.github.amanguss.shopping_list_application.dto.item.ItemResponseDto;
 import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListCreateDto;
 import com.github.amanguss.shopping_list_application.dto.item.ItemCreateDto;
@@ -22,6 +24,8 @@ import lombok.RequiredArgsConstructor;
 import jakarta.validation.Valid;
 import jakarta.servlet.http.HttpSession;
 
+import java.util.List;
+
 @Controller
 @RequiredArgsConstructor
 public class WebShoppingListController {
@@ -31,6 +35,7 @@ public class WebShoppingListController {
     private final ItemService itemService;
     private final CategoryService categoryService;
     private final ListShareService listShareService;
+    private final PageComposer pageComposer;
 
     @GetMapping("/lists")
     public String listIndex(HttpSession session, Model model) {
@@ -112,10 +117,16 @@ public class WebShoppingListController {
         }
 
         try {
-            var user = userService.getUserById(userId);
-            var list = shoppingListService.getShoppingListById(id);
-            var items = itemService.getItemsByShoppingList(id);
-            var categories = categoryService.getAllCategories();
+            PageComposition page = pageComposer.begin();
+            var userPart = page.fetch(() -> userService.getUserById(userId));
+            var listPart = page.fetch(() -> shoppingListService.getShoppingListById(id));
+            var itemsPart = page.fetch(() -> itemService.getItemsByShoppingList(id));
+            var categoriesPart = page.fetch(() -> categoryService.getAllCategories(), List::of);
+
+            var user = userPart.get();
+            var list = listPart.get();
+            var items = itemsPart.get();
+            var categories = categoriesPart.get();
 
             model.addAttribute("user", user);
             model.addAttribute("list", list);
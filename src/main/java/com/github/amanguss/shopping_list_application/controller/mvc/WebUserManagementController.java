@@ -1,5 +1,7 @@
 package com.github.amanguss.shopping_list_application.controller.mvc;
 
+import com.github.amanguss.shopping_list_application.exception.ValidationException;
+import com.github.amanguss.shopping_list_application.service.SearchService;
 import com.github.amanguss.shopping_list_application.service.UserService;
 
 import org.springframework.stereotype.Controller;
@@ -10,25 +12,40 @@ import lombok.RequiredArgsConstructor;
 
 import jakarta.servlet.http.HttpSession;
 
+import java.util.List;
+
 @Controller
 @RequiredArgsConstructor
 public class WebUserManagementController {
 
     private final UserService userService;
+    private final SearchService searchService;
 
     @GetMapping("/user-management")
-    public String userManagement(HttpSession session, Model model) {
+    public String userManagement(@RequestParam(required = false) String q,
+                                 @RequestParam(required = false) String cursor,
+                                 HttpSession session, Model model) {
         Integer userId = (Integer) session.getAttribute("userId");
         if (userId == null) {
             return "redirect:/login";
         }
 
         try {
-            var user = userService.getUserById(userId);
-            var allUsers = userService.getAllUsers();
-            
-            model.addAttribute("user", user);
-            model.addAttribute("users", allUsers);
+            model.addAttribute("user", userService.getUserById(userId));
+            model.addAttribute("q", q);
+
+            if (q == null || q.isBlank()) {
+                var page = userService.getUserPage(cursor, null);
+                model.addAttribute("users", page.getContent());
+                model.addAttribute("nextCursor", page.getNextCursor());
+            } else {
+                try {
+                    model.addAttribute("results", searchService.searchUsers(q, null));
+                } catch (ValidationException e) {
+                    model.addAttribute("results", List.of());
+                    model.addAttribute("error", e.getMessage());
+                }
+            }
             return "profile/user-management";
         } catch (Exception e) {
             return "redirect:/dashboard";
@@ -0,0 +1,19 @@
+package com.github.amanguss.shopping_list_application.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryMonthSpendDto {
+
+    private YearMonth month;
+    private Integer categoryId;
+    private String categoryName;
+    private Double spentTotal;
+    private Long purchaseCount;
+}
@@ -0,0 +1,19 @@
+package com.github.amanguss.shopping_list_application.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryVarianceDto {
+
+    private Integer categoryId;
+    private String categoryName;
+    private Double estimatedTotal;
+    private Double actualTotal;
+    private Double variance;
+    private Double variancePercent;
+    private Long purchaseCount;
+}
@@ -0,0 +1,16 @@
+package com.github.amanguss.shopping_list_application.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListSpendDto {
+
+    private Integer shoppingListId;
+    private String shoppingListName;
+    private Double spentTotal;
+    private Long purchaseCount;
+}
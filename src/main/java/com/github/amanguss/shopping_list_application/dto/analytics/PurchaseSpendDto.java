@@ -0,0 +1,20 @@
+package com.github.amanguss.shopping_list_application.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PurchaseSpendDto {
+
+    private Integer ownerId;
+    private Integer shoppingListId;
+    private Integer categoryId;
+    private LocalDate purchasedOn;
+    private Double spent;
+    private Double estimated;
+}
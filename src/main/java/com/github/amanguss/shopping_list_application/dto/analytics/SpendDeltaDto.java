@@ -0,0 +1,17 @@
+package com.github.amanguss.shopping_list_application.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpendDeltaDto {
+
+    private List<PurchaseSpendDto> removed;
+    private List<PurchaseSpendDto> added;
+    private Long transactionId;
+}
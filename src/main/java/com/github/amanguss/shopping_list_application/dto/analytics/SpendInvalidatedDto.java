@@ -0,0 +1,14 @@
+package com.github.amanguss.shopping_list_application.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpendInvalidatedDto {
+
+    private Integer shoppingListId;
+    private Long transactionId;
+}
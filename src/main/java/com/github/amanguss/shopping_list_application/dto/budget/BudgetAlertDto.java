@@ -0,0 +1,22 @@
+package com.github.amanguss.shopping_list_application.dto.budget;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetAlertDto {
+
+    private Integer budgetId;
+    private Integer shoppingListId;
+    private Boolean overBudget;
+    private Double limit;
+    private Double currentSpent;
+    private LocalDateTime crossedAt;
+}
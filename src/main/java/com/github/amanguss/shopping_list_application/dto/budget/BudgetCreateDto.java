@@ -26,5 +26,7 @@ public class BudgetCreateDto {
     private Period period;
 
     private Boolean isActive = true;
+
+    private Long version;
 }
 
@@ -23,4 +23,7 @@ public class BudgetResponseDto {
     private String shoppingListName;
     private Double currentSpent;
     private Double remainingBudget;
+    private Boolean overBudget;
+    private LocalDateTime overBudgetSince;
+    private Long version;
 }
\ No newline at end of file
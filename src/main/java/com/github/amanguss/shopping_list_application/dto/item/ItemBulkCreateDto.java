@@ -0,0 +1,21 @@
+package com.github.amanguss.shopping_list_application.dto.item;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemBulkCreateDto {
+
+    @NotEmpty(message = "At least one item is required")
+    @Size(max = 500, message = "Bulk requests must not exceed 500 items")
+    private List<@Valid ItemCreateDto> items;
+}
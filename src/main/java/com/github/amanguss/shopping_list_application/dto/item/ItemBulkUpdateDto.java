@@ -0,0 +1,25 @@
+package com.github.amanguss.shopping_list_application.dto.item;
+
+import com.github.amanguss.shopping_list_application.entity.enums.PriorityLevel;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemBulkUpdateDto {
+
+    @NotEmpty(message = "At least one item ID is required")
+    @Size(max = 500, message = "Bulk requests must not exceed 500 items")
+    private List<@NotNull Integer> itemIds;
+
+    private PriorityLevel priority;
+}
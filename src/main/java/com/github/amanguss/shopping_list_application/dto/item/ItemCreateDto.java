@@ -36,4 +36,6 @@ public class ItemCreateDto {
 
     @NotNull(message = "Category ID is required")
     private Integer categoryId;
+
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.github.amanguss.shopping_list_application.dto.item;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemPurchaseDto {
+
+    @NotNull(message = "Item ID is required")
+    private Integer itemId;
+
+    @NotNull(message = "Actual price is required")
+    @DecimalMin(value = "0.0", message = "Price must not be negative")
+    private Double actualPrice;
+}
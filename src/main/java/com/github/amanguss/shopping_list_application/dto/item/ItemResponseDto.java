@@ -28,4 +28,5 @@ public class ItemResponseDto {
     private String categoryName;
     private Integer categoryId;
     private Integer shoppingListId;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.github.amanguss.shopping_list_application.dto.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+
+    private List<T> content;
+    private Integer size;
+    private String nextCursor;
+    private Boolean hasNext;
+}
@@ -0,0 +1,17 @@
+package com.github.amanguss.shopping_list_application.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResponseDto {
+
+    private String query;
+    private List<SearchResultDto> shoppingLists;
+    private List<SearchResultDto> items;
+}
@@ -0,0 +1,18 @@
+package com.github.amanguss.shopping_list_application.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDto {
+
+    private String type;
+    private Integer id;
+    private String title;
+    private String detail;
+    private Integer listId;
+    private Double score;
+}
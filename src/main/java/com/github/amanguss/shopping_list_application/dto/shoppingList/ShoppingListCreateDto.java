@@ -27,4 +27,6 @@ public class ShoppingListCreateDto {
     private Boolean isTemplate;
 
     private PriorityLevel priority;
+
+    private Long version;
 }
\ No newline at end of file
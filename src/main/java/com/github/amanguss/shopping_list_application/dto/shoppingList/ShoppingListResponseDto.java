@@ -28,4 +28,5 @@ public class ShoppingListResponseDto {
     private Integer ownerId;
     private Integer totalItems;
     private Integer purchasedItems;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.github.amanguss.shopping_list_application.dto.shoppingList;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShoppingListVersionDto {
+
+    private Integer id;
+    private Long contentVersion;
+    private LocalDateTime lastModifiedDate;
+
+    public String toETag() {
+        return "\"" + id + "-" + contentVersion + "\"";
+    }
+}
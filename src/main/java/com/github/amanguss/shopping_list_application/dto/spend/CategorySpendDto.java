@@ -0,0 +1,16 @@
+package com.github.amanguss.shopping_list_application.dto.spend;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategorySpendDto {
+
+    private Integer categoryId;
+    private String categoryName;
+    private Double spentTotal;
+    private Integer purchaseCount;
+}
@@ -0,0 +1,20 @@
+package com.github.amanguss.shopping_list_application.dto.spend;
+
+import com.github.amanguss.shopping_list_application.entity.enums.RollupPeriod;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpendBucketDto {
+
+    private RollupPeriod period;
+    private LocalDate bucketStart;
+    private Double spentTotal;
+    private Integer purchaseCount;
+}
@@ -0,0 +1,21 @@
+package com.github.amanguss.shopping_list_application.dto.sync;
+
+import com.github.amanguss.shopping_list_application.dto.item.ItemResponseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemDeltaDto {
+
+    private Integer shoppingListId;
+    private List<ItemResponseDto> upserted;
+    private List<Integer> deletedIds;
+}
@@ -0,0 +1,23 @@
+package com.github.amanguss.shopping_list_application.dto.sync;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.github.amanguss.shopping_list_application.entity.enums.ChangeOperation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ListChangeDto {
+
+    private Long version;
+    private ChangeOperation operation;
+    private Integer itemId;
+
+    @JsonRawValue
+    private String payload;
+}
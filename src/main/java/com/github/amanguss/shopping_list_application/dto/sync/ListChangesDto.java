@@ -0,0 +1,25 @@
+package com.github.amanguss.shopping_list_application.dto.sync;
+
+import com.github.amanguss.shopping_list_application.dto.item.ItemResponseDto;
+import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListResponseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ListChangesDto {
+
+    private Integer shoppingListId;
+    private Long version;
+    private Boolean snapshot;
+    private ShoppingListResponseDto shoppingList;
+    private List<ItemResponseDto> items;
+    private List<ListChangeDto> changes;
+}
@@ -0,0 +1,14 @@
+package com.github.amanguss.shopping_list_application.dto.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShareRevokedDto {
+
+    private Integer shoppingListId;
+    private Integer userId;
+}
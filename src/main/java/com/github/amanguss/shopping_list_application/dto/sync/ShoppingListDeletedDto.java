@@ -0,0 +1,13 @@
+package com.github.amanguss.shopping_list_application.dto.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShoppingListDeletedDto {
+
+    private Integer shoppingListId;
+}
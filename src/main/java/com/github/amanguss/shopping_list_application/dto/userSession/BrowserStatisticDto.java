@@ -0,0 +1,15 @@
+package com.github.amanguss.shopping_list_application.dto.userSession;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BrowserStatisticDto {
+
+    private String browserFamily;
+    private String osFamily;
+    private Long sessionCount;
+}
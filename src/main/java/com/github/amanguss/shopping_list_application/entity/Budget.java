@@ -16,7 +16,10 @@ import java.util.Objects;
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "budgets")
+@Table(name = "budgets",
+       indexes = {
+               @Index(name = "idx_budgets_over_budget_since", columnList = "over_budget_since")
+       })
 public class Budget {
 
     @Id
@@ -40,6 +43,16 @@ public class Budget {
     @Column(name = "is_active")
     Boolean isActive;
 
+    @Column(name = "is_over_budget", nullable = false, updatable = false)
+    Boolean isOverBudget = false;
+
+    @Column(name = "over_budget_since", updatable = false)
+    LocalDateTime overBudgetSince;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    Long version;
+
     @OneToOne(mappedBy = "budget")
     @ToString.Exclude
     ShoppingList shoppingList;
@@ -16,7 +16,10 @@ import java.util.Objects;
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "items")
+@Table(name = "items",
+       indexes = {
+               @Index(name = "idx_items_list_purchased_added", columnList = "list_id, is_purchased, added_date")
+       })
 public class Item {
 
     @Id
@@ -58,6 +61,10 @@ public class Item {
     @Column(name = "notes")
     String notes;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "list_id",
                 nullable = false,
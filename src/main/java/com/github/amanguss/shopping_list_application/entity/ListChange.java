@@ -0,0 +1,71 @@
+package com.github.amanguss.shopping_list_application.entity;
+
+import com.github.amanguss.shopping_list_application.entity.enums.ChangeOperation;
+
+import org.hibernate.proxy.HibernateProxy;
+import jakarta.persistence.*;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "list_changes",
+       indexes = {
+               @Index(name = "idx_list_changes_list_version", columnList = "list_id, version")
+       })
+public class ListChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @Column(name = "change_id")
+    Long id;
+
+    @Column(name = "list_id", nullable = false)
+    Integer shoppingListId;
+
+    @Column(name = "item_id")
+    Integer itemId;
+
+    @Column(name = "version", nullable = false)
+    Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 32)
+    ChangeOperation operation;
+
+    @Column(name = "payload", columnDefinition = "text")
+    @ToString.Exclude
+    String payload;
+
+    @Column(name = "created_at", nullable = false)
+    LocalDateTime createdAt;
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy
+                ? ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass()
+                : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy
+                ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass()
+                : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        ListChange that = (ListChange) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return this instanceof HibernateProxy
+                ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass().hashCode()
+                : getClass().hashCode();
+    }
+}
@@ -16,7 +16,17 @@ import java.util.Objects;
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "list_shares")
+@NamedEntityGraph(name = "ListShare.details",
+                  attributeNodes = {
+                          @NamedAttributeNode("shoppingList"),
+                          @NamedAttributeNode("sharedBy"),
+                          @NamedAttributeNode("sharedTo")
+                  })
+@Table(name = "list_shares",
+       indexes = {
+               @Index(name = "idx_list_shares_shared_to_active_date", columnList = "shared_with_user_id, is_active, shared_date"),
+               @Index(name = "idx_list_shares_expiration_active", columnList = "expiration_date, is_active")
+       })
 public class ListShare {
 
     @Id
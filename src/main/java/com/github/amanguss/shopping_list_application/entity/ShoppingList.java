@@ -19,7 +19,10 @@ import java.util.Objects;
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "shopping_lists")
+@Table(name = "shopping_lists",
+       indexes = {
+               @Index(name = "idx_shopping_lists_owner_creation", columnList = "owner_user_id, creation_date, list_id")
+       })
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class ShoppingList {
 
@@ -51,6 +54,28 @@ public class ShoppingList {
     @Column(name = "priority_level")
     PriorityLevel priority;
 
+    @Column(name = "item_count", nullable = false, updatable = false)
+    Integer itemCount = 0;
+
+    @Column(name = "purchased_count", nullable = false, updatable = false)
+    Integer purchasedCount = 0;
+
+    @Column(name = "estimated_total", nullable = false, updatable = false)
+    Double estimatedTotal = 0.0;
+
+    @Column(name = "spent_total", nullable = false, updatable = false)
+    Double spentTotal = 0.0;
+
+    @Column(name = "content_version", nullable = false, updatable = false)
+    Long contentVersion = 0L;
+
+    @Column(name = "compacted_version", nullable = false, updatable = false)
+    Long compactedVersion = 0L;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_user_id",
                 nullable = false,
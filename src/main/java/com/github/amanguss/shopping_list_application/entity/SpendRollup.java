@@ -0,0 +1,49 @@
+package com.github.amanguss.shopping_list_application.entity;
+
+import com.github.amanguss.shopping_list_application.entity.enums.RollupDimension;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupPeriod;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(SpendRollupId.class)
+@Table(name = "spend_rollups")
+public class SpendRollup {
+
+    @Id
+    @Column(name = "owner_id")
+    Integer ownerId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", length = 16)
+    RollupDimension dimension;
+
+    @Id
+    @Column(name = "dimension_id")
+    Integer dimensionId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period", length = 8)
+    RollupPeriod period;
+
+    @Id
+    @Column(name = "bucket_start")
+    LocalDate bucketStart;
+
+    @Column(name = "spent_total", nullable = false)
+    Double spentTotal;
+
+    @Column(name = "purchase_count", nullable = false)
+    Integer purchaseCount;
+}
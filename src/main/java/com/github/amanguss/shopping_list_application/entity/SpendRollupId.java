@@ -0,0 +1,23 @@
+package com.github.amanguss.shopping_list_application.entity;
+
+import com.github.amanguss.shopping_list_application.entity.enums.RollupDimension;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupPeriod;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpendRollupId implements Serializable {
+
+    private Integer ownerId;
+    private RollupDimension dimension;
+    private Integer dimensionId;
+    private RollupPeriod period;
+    private LocalDate bucketStart;
+}
@@ -14,7 +14,12 @@ import java.util.Objects;
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "user_sessions")
+@NamedEntityGraph(name = "UserSession.user", attributeNodes = @NamedAttributeNode("user"))
+@Table(name = "user_sessions",
+       indexes = {
+               @Index(name = "idx_user_sessions_token_active", columnList = "session_token, is_active"),
+               @Index(name = "idx_user_sessions_user_login", columnList = "user_id, login_timestamp")
+       })
 public class UserSession {
 
     @Id
@@ -43,13 +48,20 @@ public class UserSession {
     @Column(name = "user_agent")
     String userAgent;
 
+    @Column(name = "browser_family", length = 50)
+    String browserFamily;
+
+    @Column(name = "os_family", length = 50)
+    String osFamily;
+
     @Column(name = "is_active")
     Boolean isActive;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id",
                 nullable = false,
                 foreignKey = @ForeignKey(name = "FK_USER_SESSIONS_USER"))
+    @ToString.Exclude
     User user;
 
     @Override
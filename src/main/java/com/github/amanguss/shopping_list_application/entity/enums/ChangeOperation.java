@@ -0,0 +1,7 @@
+package com.github.amanguss.shopping_list_application.entity.enums;
+
+public enum ChangeOperation {
+    ITEM_UPSERTED,
+    ITEM_DELETED,
+    LIST_UPDATED
+}
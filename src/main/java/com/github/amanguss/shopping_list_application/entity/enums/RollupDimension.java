@@ -0,0 +1,7 @@
+package com.github.amanguss.shopping_list_application.entity.enums;
+
+public enum RollupDimension {
+    LIST,
+    OWNER,
+    CATEGORY
+}
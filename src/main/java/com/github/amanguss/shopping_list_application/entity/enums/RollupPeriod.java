@@ -0,0 +1,27 @@
+package com.github.amanguss.shopping_list_application.entity.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum RollupPeriod {
+    DAY,
+    WEEK,
+    MONTH;
+
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate minusBuckets(LocalDate bucketStart, long buckets) {
+        return switch (this) {
+            case DAY -> bucketStart.minusDays(buckets);
+            case WEEK -> bucketStart.minusWeeks(buckets);
+            case MONTH -> bucketStart.minusMonths(buckets);
+        };
+    }
+}
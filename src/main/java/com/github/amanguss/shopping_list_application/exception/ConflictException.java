@@ -0,0 +1,14 @@
+package com.github.amanguss.shopping_list_application.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ConflictException extends RuntimeException {
+
+    private final Object current;
+
+    public ConflictException(String message, Object current) {
+        super(message);
+        this.current = current;
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.amanguss.shopping_list_application.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -37,6 +38,27 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ConflictResponse> handleConflictException(ConflictException ex) {
+        ConflictResponse error = new ConflictResponse(
+                HttpStatus.CONFLICT.value(),
+                ex.getMessage(),
+                LocalDateTime.now(),
+                ex.getCurrent()
+        );
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Resource was modified concurrently, reload and retry",
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -79,6 +101,17 @@ public class GlobalExceptionHandler {
         }
     }
 
+    @Setter
+    @Getter
+    public static class ConflictResponse extends ErrorResponse {
+        private Object current;
+
+        public ConflictResponse(int status, String message, LocalDateTime timestamp, Object current) {
+            super(status, message, timestamp);
+            this.current = current;
+        }
+    }
+
     @Setter
     @Getter
     public static class ValidationErrorResponse extends ErrorResponse {
@@ -0,0 +1,23 @@
+package com.github.amanguss.shopping_list_application.metrics;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+public final class RequestRoute {
+
+    public static final String NONE = "none";
+
+    private RequestRoute() {
+    }
+
+    public static String current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return NONE;
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        return pattern == null ? NONE : pattern.toString();
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.amanguss.shopping_list_application.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.github.amanguss.shopping_list_application.service.impl..*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+        String route = RequestRoute.current();
+        String exception = "none";
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            meterRegistry.counter("service.method.errors",
+                    "class", className,
+                    "method", methodName,
+                    "route", route,
+                    "exception", exception).increment();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("service.method")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("route", route)
+                    .tag("exception", exception)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+}
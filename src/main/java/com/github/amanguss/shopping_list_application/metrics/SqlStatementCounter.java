@@ -0,0 +1,49 @@
+package com.github.amanguss.shopping_list_application.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<AtomicInteger> STATEMENTS = new ThreadLocal<>();
+
+    public static void start() {
+        STATEMENTS.set(new AtomicInteger());
+    }
+
+    public static int stop() {
+        AtomicInteger statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements == null ? 0 : statements.get();
+    }
+
+    public static Runnable propagate(Runnable task) {
+        AtomicInteger statements = STATEMENTS.get();
+        if (statements == null) {
+            return task;
+        }
+        return () -> {
+            AtomicInteger previous = STATEMENTS.get();
+            STATEMENTS.set(statements);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    STATEMENTS.remove();
+                } else {
+                    STATEMENTS.set(previous);
+                }
+            }
+        };
+    }
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.incrementAndGet();
+        }
+        return sql;
+    }
+}
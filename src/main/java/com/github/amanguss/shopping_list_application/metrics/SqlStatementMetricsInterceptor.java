@@ -0,0 +1,39 @@
+package com.github.amanguss.shopping_list_application.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+@Component
+@RequiredArgsConstructor
+public class SqlStatementMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementCounter.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int statements = SqlStatementCounter.stop();
+        meterRegistry.ifAvailable(registry -> DistributionSummary.builder("http.server.requests.sql.statements")
+                .tag("method", request.getMethod())
+                .tag("route", RequestRoute.current())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry)
+                .record(statements));
+    }
+}
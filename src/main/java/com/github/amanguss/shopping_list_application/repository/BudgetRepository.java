@@ -3,11 +3,16 @@ package com.github.amanguss.shopping_list_application.repository;
 import com.github.amanguss.shopping_list_application.entity.Budget;
 import com.github.amanguss.shopping_list_application.entity.ShoppingList;
 import com.github.amanguss.shopping_list_application.entity.enums.Period;
+import com.github.amanguss.shopping_list_application.repository.projection.BudgetThresholdState;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +25,30 @@ public interface BudgetRepository extends JpaRepository<Budget, Integer> {
     List<Budget> findByPeriodOrderByCreationDateDesc(Period period);
     List<Budget> findByCurrencyOrderByCreationDateDesc(String currency);
 
-    @Query("SELECT b FROM Budget b JOIN b.shoppingList sl JOIN sl.items i " +
-            "WHERE b.isActive = true " +
-            "GROUP BY b " +
-            "HAVING SUM(CASE WHEN i.isPurchased = true THEN i.actualPrice * i.quantity ELSE 0 END) > b.limit")
+    @Query("SELECT b FROM Budget b JOIN FETCH b.shoppingList " +
+            "WHERE b.isOverBudget = true ORDER BY b.overBudgetSince DESC")
     List<Budget> findOverBudgetLists();
+
+    @Query("SELECT b.id AS budgetId, sl.id AS shoppingListId, b.limit AS limit, b.isActive AS isActive, " +
+            "b.isOverBudget AS isOverBudget, sl.spentTotal AS spentTotal " +
+            "FROM ShoppingList sl JOIN sl.budget b WHERE sl.id = :shoppingListId")
+    Optional<BudgetThresholdState> findThresholdStateByShoppingListId(@Param("shoppingListId") Integer shoppingListId);
+
+    @Modifying
+    @Query("UPDATE Budget b SET b.isOverBudget = :overBudget, b.overBudgetSince = :overBudgetSince " +
+            "WHERE b.id = :id AND b.isOverBudget <> :overBudget")
+    int updateOverBudget(@Param("id") Integer id,
+                         @Param("overBudget") Boolean overBudget,
+                         @Param("overBudgetSince") LocalDateTime overBudgetSince);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE budgets b SET " +
+            "is_over_budget = (coalesce(b.is_active, false) AND sl.spent_total > b.budget_limit), " +
+            "over_budget_since = CASE WHEN coalesce(b.is_active, false) AND sl.spent_total > b.budget_limit " +
+            "THEN now() ELSE NULL END " +
+            "FROM shopping_lists sl WHERE sl.budget_id = b.budget_id " +
+            "AND b.is_over_budget <> (coalesce(b.is_active, false) AND sl.spent_total > b.budget_limit)",
+            nativeQuery = true)
+    int reconcileOverBudgetFlags();
 }
@@ -1,12 +1,14 @@
 package com.github.amanguss.shopping_list_application.repository;
 
 import com.github.amanguss.shopping_list_application.entity.Category;
+import com.github.amanguss.shopping_list_application.repository.projection.CategoryItemCount;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -24,4 +26,8 @@ public interface CategoryRepository extends JpaRepository<Category, Integer> {
 
     @Query("SELECT COUNT(i) FROM Item i WHERE i.category = :category")
     Integer countItemsByCategory(@Param("category") Category category);
+
+    @Query("SELECT i.category.id AS categoryId, COUNT(i) AS itemCount FROM Item i " +
+            "WHERE i.category.id IN :categoryIds GROUP BY i.category.id")
+    List<CategoryItemCount> countItemsByCategoryIds(@Param("categoryIds") Collection<Integer> categoryIds);
 }
\ No newline at end of file
@@ -4,28 +4,100 @@ import com.github.amanguss.shopping_list_application.entity.Category;
 import com.github.amanguss.shopping_list_application.entity.Item;
 import com.github.amanguss.shopping_list_application.entity.ShoppingList;
 import com.github.amanguss.shopping_list_application.entity.enums.PriorityLevel;
+import com.github.amanguss.shopping_list_application.repository.projection.SearchMatch;
+import com.github.amanguss.shopping_list_application.repository.projection.SpendCell;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Integer> {
 
+    String KEYSET_SELECT = "SELECT i FROM Item i JOIN FETCH i.category ";
+    String KEYSET_AFTER = "(i.addedDate < :addedDate OR (i.addedDate = :addedDate AND i.id < :id)) ";
+    String KEYSET_ORDER = "ORDER BY i.addedDate DESC, i.id DESC";
+    String SPEND_CELL_MONTH = "YEAR(i.purchasedDate) * 12 + MONTH(i.purchasedDate) - 1";
+    String SPEND_CELL_MEASURES = SPEND_CELL_MONTH + " AS month, " +
+            "SUM(i.actualPrice * COALESCE(i.quantity, 0.0)) AS spent, " +
+            "SUM(COALESCE(i.estimatedPrice, 0.0) * COALESCE(i.quantity, 0.0)) AS estimated, COUNT(i) AS purchases " +
+            "FROM Item i JOIN i.shoppingList sl " +
+            "WHERE i.isPurchased = true AND i.actualPrice IS NOT NULL AND i.purchasedDate >= :since ";
+
     List<Item> findByShoppingListOrderByAddedDateDesc(ShoppingList shoppingList);
     List<Item> findByShoppingListAndIsPurchasedOrderByAddedDateDesc(ShoppingList shoppingList, Boolean isPurchased);
     List<Item> findByCategoryOrderByAddedDateDesc(Category category);
     List<Item> findByPriorityOrderByAddedDateDesc(PriorityLevel priority);
 
-    @Query("SELECT SUM(i.actualPrice * i.quantity) FROM Item i WHERE i.shoppingList = :shoppingList AND i.isPurchased = true")
-    Double calculateTotalSpentByShoppingList(@Param("shoppingList") ShoppingList shoppingList);
-
-    @Query("SELECT SUM(i.estimatedPrice * i.quantity) FROM Item i WHERE i.shoppingList = :shoppingList")
-    Double calculateEstimatedTotalByShoppingList(@Param("shoppingList") ShoppingList shoppingList);
+    @Query("SELECT i FROM Item i JOIN FETCH i.category WHERE i.id IN :ids")
+    List<Item> findAllWithCategoryByIdIn(@Param("ids") Collection<Integer> ids);
 
     @Query("SELECT i FROM Item i JOIN i.shoppingList sl WHERE sl.owner.id = :ownerId ORDER BY i.addedDate DESC")
     List<Item> findByShoppingListOwnerIdOrderByAddedDateDesc(@Param("ownerId") Integer ownerId);
-}
\ No newline at end of file
+
+    @Query(KEYSET_SELECT + "WHERE i.shoppingList = :shoppingList AND " + KEYSET_AFTER + KEYSET_ORDER)
+    List<Item> findPageByShoppingList(@Param("shoppingList") ShoppingList shoppingList,
+                                      @Param("addedDate") LocalDateTime addedDate,
+                                      @Param("id") Integer id,
+                                      Pageable pageable);
+
+    @Query(KEYSET_SELECT + "WHERE i.shoppingList = :shoppingList AND i.isPurchased = :isPurchased AND " + KEYSET_AFTER + KEYSET_ORDER)
+    List<Item> findPageByShoppingListAndIsPurchased(@Param("shoppingList") ShoppingList shoppingList,
+                                                    @Param("isPurchased") Boolean isPurchased,
+                                                    @Param("addedDate") LocalDateTime addedDate,
+                                                    @Param("id") Integer id,
+                                                    Pageable pageable);
+
+    @Query(KEYSET_SELECT + "WHERE i.category = :category AND " + KEYSET_AFTER + KEYSET_ORDER)
+    List<Item> findPageByCategory(@Param("category") Category category,
+                                  @Param("addedDate") LocalDateTime addedDate,
+                                  @Param("id") Integer id,
+                                  Pageable pageable);
+
+    @Query(KEYSET_SELECT + "WHERE i.priority = :priority AND " + KEYSET_AFTER + KEYSET_ORDER)
+    List<Item> findPageByPriority(@Param("priority") PriorityLevel priority,
+                                  @Param("addedDate") LocalDateTime addedDate,
+                                  @Param("id") Integer id,
+                                  Pageable pageable);
+
+    @Query(value = "SELECT i.item_id AS id, i.item_name AS title, sl.list_name AS detail, sl.list_id AS \"listId\", " +
+            "CASE WHEN lower(i.item_name) LIKE lower(:query) || '%' THEN 1 ELSE 0 END + " +
+            "similarity(lower(i.item_name), lower(:query)) AS score " +
+            "FROM items i JOIN shopping_lists sl ON sl.list_id = i.list_id " +
+            "WHERE " + ShoppingListRepository.SEARCH_ACCESSIBLE +
+            "AND lower(i.item_name) LIKE '%' || lower(:query) || '%' " +
+            "ORDER BY score DESC, i.item_id DESC LIMIT :limit", nativeQuery = true)
+    List<SearchMatch> searchAccessible(@Param("userId") Integer userId, @Param("query") String query, @Param("limit") int limit);
+
+    @Query("SELECT sl.owner.id AS ownerId, i.category.id AS dimensionId, " + SPEND_CELL_MEASURES +
+            "GROUP BY sl.owner.id, i.category.id, " + SPEND_CELL_MONTH)
+    List<SpendCell> findCategorySpendCells(@Param("since") LocalDateTime since);
+
+    @Query("SELECT sl.owner.id AS ownerId, i.category.id AS dimensionId, " + SPEND_CELL_MEASURES +
+            "AND sl.owner.id = :ownerId GROUP BY sl.owner.id, i.category.id, " + SPEND_CELL_MONTH)
+    List<SpendCell> findCategorySpendCellsByOwner(@Param("ownerId") Integer ownerId, @Param("since") LocalDateTime since);
+
+    @Query("SELECT sl.owner.id AS ownerId, sl.id AS dimensionId, " + SPEND_CELL_MEASURES +
+            "GROUP BY sl.owner.id, sl.id, " + SPEND_CELL_MONTH)
+    List<SpendCell> findListSpendCells(@Param("since") LocalDateTime since);
+
+    @Query("SELECT sl.owner.id AS ownerId, sl.id AS dimensionId, " + SPEND_CELL_MEASURES +
+            "AND sl.owner.id = :ownerId GROUP BY sl.owner.id, sl.id, " + SPEND_CELL_MONTH)
+    List<SpendCell> findListSpendCellsByOwner(@Param("ownerId") Integer ownerId, @Param("since") LocalDateTime since);
+
+    @Query("SELECT i.id FROM Item i WHERE i.shoppingList = :shoppingList AND i.isPurchased = true ORDER BY i.id")
+    List<Integer> findPurchasedItemIds(@Param("shoppingList") ShoppingList shoppingList, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query("DELETE FROM Item i WHERE i.id IN :ids AND i.isPurchased = true")
+    int deletePurchasedItems(@Param("ids") List<Integer> ids);
+}
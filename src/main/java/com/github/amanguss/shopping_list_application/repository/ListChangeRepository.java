@@ -0,0 +1,42 @@
+package com.github.amanguss.shopping_list_application.repository;
+
+import com.github.amanguss.shopping_list_application.entity.ListChange;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ListChangeRepository extends JpaRepository<ListChange, Long> {
+
+    List<ListChange> findByShoppingListIdAndVersionGreaterThanOrderByVersionAscIdAsc(Integer shoppingListId, Long version,
+                                                                                      Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM list_changes WHERE change_id IN (" +
+            "SELECT c.change_id FROM list_changes c WHERE EXISTS (SELECT 1 FROM list_changes n " +
+            "WHERE n.list_id = c.list_id AND n.item_id IS NOT DISTINCT FROM c.item_id AND n.version > c.version) " +
+            "ORDER BY c.change_id LIMIT :batchSize FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteSupersededChanges(@Param("batchSize") int batchSize);
+
+    @Transactional
+    @Query(value = "WITH truncated AS (" +
+            "DELETE FROM list_changes WHERE change_id IN (" +
+            "SELECT change_id FROM list_changes WHERE created_at < :cutoffTime " +
+            "ORDER BY change_id LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+            "RETURNING list_id, version), " +
+            "horizons AS (" +
+            "UPDATE shopping_lists sl SET compacted_version = t.version " +
+            "FROM (SELECT list_id, max(version) AS version FROM truncated GROUP BY list_id) t " +
+            "WHERE sl.list_id = t.list_id AND sl.compacted_version < t.version RETURNING sl.list_id) " +
+            "SELECT count(*) FROM truncated", nativeQuery = true)
+    int truncateChangesBefore(@Param("cutoffTime") LocalDateTime cutoffTime, @Param("batchSize") int batchSize);
+}
@@ -4,11 +4,16 @@ import com.github.amanguss.shopping_list_application.entity.ListShare;
 import com.github.amanguss.shopping_list_application.entity.ShoppingList;
 import com.github.amanguss.shopping_list_application.entity.User;
 import com.github.amanguss.shopping_list_application.entity.enums.Permission;
+import com.github.amanguss.shopping_list_application.repository.projection.ShareAccess;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,11 +22,21 @@ import java.util.Optional;
 @Repository
 public interface ListShareRepository extends JpaRepository<ListShare, Integer> {
 
+    Optional<ListShare> findByShoppingListAndSharedToAndIsActiveTrue(ShoppingList shoppingList, User sharedTo);
+
+    @EntityGraph("ListShare.details")
+    Optional<ListShare> findDetailedById(Integer id);
+
+    @EntityGraph("ListShare.details")
     List<ListShare> findByShoppingListAndIsActiveTrueOrderBySharedDateDesc(ShoppingList shoppingList);
+
+    @EntityGraph("ListShare.details")
     List<ListShare> findBySharedToAndIsActiveTrueOrderBySharedDateDesc(User sharedTo);
+
+    @EntityGraph("ListShare.details")
     List<ListShare> findBySharedByAndIsActiveTrueOrderBySharedDateDesc(User sharedBy);
-    Optional<ListShare> findByShoppingListAndSharedToAndIsActiveTrue(ShoppingList shoppingList, User sharedTo);
-    List<ListShare> findByExpirationDateBeforeAndIsActiveTrue(LocalDateTime now);
+
+    @EntityGraph("ListShare.details")
     List<ListShare> findByPermissionAndIsActiveTrueOrderBySharedDateDesc(Permission permission);
 
     @Query("SELECT COUNT(ls) > 0 FROM ListShare ls " +
@@ -35,4 +50,16 @@ public interface ListShareRepository extends JpaRepository<ListShare, Integer> {
 
     @Query("SELECT COUNT(DISTINCT ls.shoppingList) FROM ListShare ls WHERE ls.sharedBy = :user AND ls.isActive = true")
     Long countSharedListsByUser(@Param("user") User user);
+
+    @Query("SELECT ls.id FROM ListShare ls " +
+            "WHERE ls.expirationDate < :now AND ls.isActive = true ORDER BY ls.id")
+    List<Integer> findExpiredShareIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT ls.shoppingList.id AS shoppingListId, ls.sharedTo.id AS sharedToId FROM ListShare ls WHERE ls.id IN :ids")
+    List<ShareAccess> findAccessByIdIn(@Param("ids") List<Integer> ids);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ListShare ls SET ls.isActive = false WHERE ls.id IN :ids AND ls.isActive = true")
+    int deactivateShares(@Param("ids") List<Integer> ids);
 }
\ No newline at end of file
@@ -3,17 +3,39 @@ package com.github.amanguss.shopping_list_application.repository;
 import com.github.amanguss.shopping_list_application.entity.ShoppingList;
 import com.github.amanguss.shopping_list_application.entity.User;
 import com.github.amanguss.shopping_list_application.entity.enums.ListStatus;
+import com.github.amanguss.shopping_list_application.repository.projection.ShoppingListSummary;
+import com.github.amanguss.shopping_list_application.repository.projection.ShoppingListTotals;
+import com.github.amanguss.shopping_list_application.repository.projection.ShoppingListVersion;
+import com.github.amanguss.shopping_list_application.repository.projection.SearchMatch;
 
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ShoppingListRepository extends JpaRepository<ShoppingList, Integer> {
 
+    String SUMMARY_COLUMNS = "SELECT sl AS shoppingList, sl.itemCount AS totalItems, sl.purchasedCount AS purchasedItems ";
+    String SUMMARY_SELECT = SUMMARY_COLUMNS + "FROM ShoppingList sl ";
+    String KEYSET_AFTER = "(sl.creationDate < :creationDate OR (sl.creationDate = :creationDate AND sl.id < :id)) ";
+    String KEYSET_ORDER = "ORDER BY sl.creationDate DESC, sl.id DESC";
+    String INCREMENT_CONTENT_VERSION = "sl.contentVersion = sl.contentVersion + 1";
+    String BUMP_CONTENT_VERSION = INCREMENT_CONTENT_VERSION + ", sl.lastModifiedDate = LOCAL DATETIME";
+    String SEARCH_ACCESSIBLE = "(sl.owner_user_id = :userId OR EXISTS (SELECT 1 FROM list_shares s " +
+            "WHERE s.list_id = sl.list_id AND s.shared_with_user_id = :userId AND s.is_active = true)) ";
+
     List<ShoppingList> findByOwnerOrderByCreationDateDesc(User owner);
     List<ShoppingList> findByOwnerAndStatusOrderByCreationDateDesc(User owner, ListStatus status);
     List<ShoppingList> findByOwnerAndIsTemplateTrueOrderByCreationDateDesc(User owner);
@@ -29,9 +51,135 @@ public interface ShoppingListRepository extends JpaRepository<ShoppingList, Inte
             "ORDER BY sl.creationDate DESC")
     List<ShoppingList> findAccessibleLists(@Param("user") User user);
 
-    @Query("SELECT COUNT(i) FROM Item i WHERE i.shoppingList = :shoppingList")
-    Integer countItemsByShoppingList(@Param("shoppingList") ShoppingList shoppingList);
+    @Query(SUMMARY_SELECT + "WHERE sl.id = :id")
+    Optional<ShoppingListSummary> findSummaryById(@Param("id") Integer id);
+
+    @Query(SUMMARY_SELECT + "WHERE sl.owner = :owner ORDER BY sl.creationDate DESC")
+    List<ShoppingListSummary> findSummariesByOwner(@Param("owner") User owner);
+
+    @Query(SUMMARY_SELECT + "WHERE sl.owner = :owner AND sl.status = :status ORDER BY sl.creationDate DESC")
+    List<ShoppingListSummary> findSummariesByOwnerAndStatus(@Param("owner") User owner, @Param("status") ListStatus status);
+
+    @Query(SUMMARY_SELECT + "WHERE sl.owner = :owner AND sl.isTemplate = true ORDER BY sl.creationDate DESC")
+    List<ShoppingListSummary> findTemplateSummariesByOwner(@Param("owner") User owner);
+
+    @Query(SUMMARY_SELECT + "WHERE sl.owner = :owner AND LOWER(sl.name) LIKE LOWER(CONCAT('%', :name, '%')) " +
+            "ORDER BY sl.creationDate DESC")
+    List<ShoppingListSummary> findSummariesByOwnerAndName(@Param("owner") User owner, @Param("name") String name);
+
+    @Query(SUMMARY_SELECT + "WHERE sl.owner = :user OR EXISTS (SELECT s FROM ListShare s " +
+            "WHERE s.shoppingList = sl AND s.sharedTo = :user AND s.isActive = true) " +
+            "ORDER BY sl.creationDate DESC")
+    List<ShoppingListSummary> findAccessibleSummaries(@Param("user") User user);
+
+    @Query(SUMMARY_COLUMNS + "FROM ListShare s JOIN s.shoppingList sl " +
+            "WHERE s.sharedTo = :user AND s.isActive = true ORDER BY s.sharedDate DESC")
+    List<ShoppingListSummary> findSharedSummaries(@Param("user") User user);
+
+    @Query(SUMMARY_SELECT + "WHERE sl.owner = :owner AND " + KEYSET_AFTER + KEYSET_ORDER)
+    List<ShoppingListSummary> findSummaryPageByOwner(@Param("owner") User owner,
+                                                     @Param("creationDate") LocalDateTime creationDate,
+                                                     @Param("id") Integer id,
+                                                     Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE sl.owner = :owner AND sl.status = :status AND " + KEYSET_AFTER + KEYSET_ORDER)
+    List<ShoppingListSummary> findSummaryPageByOwnerAndStatus(@Param("owner") User owner,
+                                                              @Param("status") ListStatus status,
+                                                              @Param("creationDate") LocalDateTime creationDate,
+                                                              @Param("id") Integer id,
+                                                              Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE sl.owner = :owner AND sl.isTemplate = true AND " + KEYSET_AFTER + KEYSET_ORDER)
+    List<ShoppingListSummary> findTemplateSummaryPageByOwner(@Param("owner") User owner,
+                                                             @Param("creationDate") LocalDateTime creationDate,
+                                                             @Param("id") Integer id,
+                                                             Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE sl.owner = :owner AND LOWER(sl.name) LIKE LOWER(CONCAT('%', :name, '%')) AND " +
+            KEYSET_AFTER + KEYSET_ORDER)
+    List<ShoppingListSummary> findSummaryPageByOwnerAndName(@Param("owner") User owner,
+                                                            @Param("name") String name,
+                                                            @Param("creationDate") LocalDateTime creationDate,
+                                                            @Param("id") Integer id,
+                                                            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE (sl.owner = :user OR EXISTS (SELECT s FROM ListShare s " +
+            "WHERE s.shoppingList = sl AND s.sharedTo = :user AND s.isActive = true)) AND " +
+            KEYSET_AFTER + KEYSET_ORDER)
+    List<ShoppingListSummary> findAccessibleSummaryPage(@Param("user") User user,
+                                                        @Param("creationDate") LocalDateTime creationDate,
+                                                        @Param("id") Integer id,
+                                                        Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE ShoppingList sl SET " +
+            "sl.itemCount = sl.itemCount + :itemDelta, " +
+            "sl.purchasedCount = sl.purchasedCount + :purchasedDelta, " +
+            "sl.estimatedTotal = sl.estimatedTotal + :estimatedDelta, " +
+            "sl.spentTotal = sl.spentTotal + :spentDelta, " +
+            BUMP_CONTENT_VERSION + " WHERE sl.id = :id")
+    void adjustTotals(@Param("id") Integer id,
+                      @Param("itemDelta") Integer itemDelta,
+                      @Param("purchasedDelta") Integer purchasedDelta,
+                      @Param("estimatedDelta") Double estimatedDelta,
+                      @Param("spentDelta") Double spentDelta);
+
+    @Query("SELECT sl.id AS listId, " +
+            "sl.itemCount AS storedItemCount, sl.purchasedCount AS storedPurchasedCount, " +
+            "sl.estimatedTotal AS storedEstimatedTotal, sl.spentTotal AS storedSpentTotal, " +
+            "COUNT(i) AS itemCount, " +
+            "COALESCE(SUM(CASE WHEN i.isPurchased = true THEN 1 ELSE 0 END), 0) AS purchasedCount, " +
+            "COALESCE(SUM(i.estimatedPrice * i.quantity), 0.0) AS estimatedTotal, " +
+            "COALESCE(SUM(CASE WHEN i.isPurchased = true THEN i.actualPrice * i.quantity ELSE 0.0 END), 0.0) AS spentTotal " +
+            "FROM ShoppingList sl LEFT JOIN sl.items i WHERE sl.id > :afterId " +
+            "GROUP BY sl.id, sl.itemCount, sl.purchasedCount, sl.estimatedTotal, sl.spentTotal ORDER BY sl.id")
+    List<ShoppingListTotals> findTotalsPage(@Param("afterId") Integer afterId, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ShoppingList sl SET " +
+            "sl.itemCount = (SELECT COUNT(i) FROM Item i WHERE i.shoppingList = sl), " +
+            "sl.purchasedCount = (SELECT COUNT(i) FROM Item i WHERE i.shoppingList = sl AND i.isPurchased = true), " +
+            "sl.estimatedTotal = (SELECT COALESCE(SUM(i.estimatedPrice * i.quantity), 0.0) FROM Item i WHERE i.shoppingList = sl), " +
+            "sl.spentTotal = (SELECT COALESCE(SUM(i.actualPrice * i.quantity), 0.0) FROM Item i " +
+            "WHERE i.shoppingList = sl AND i.isPurchased = true), " +
+            BUMP_CONTENT_VERSION + " WHERE sl.id = :id")
+    void recalculateTotals(@Param("id") Integer id);
+
+    @Modifying
+    @Query("UPDATE ShoppingList sl SET " + BUMP_CONTENT_VERSION + " WHERE sl.id IN :ids")
+    void bumpContentVersion(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query("UPDATE ShoppingList sl SET " + INCREMENT_CONTENT_VERSION + " WHERE sl.id = :id")
+    void incrementContentVersion(@Param("id") Integer id);
+
+    @Query("SELECT sl.id AS listId, sl.contentVersion AS contentVersion, sl.compactedVersion AS compactedVersion, " +
+            "sl.lastModifiedDate AS lastModifiedDate FROM ShoppingList sl WHERE sl.id = :id")
+    Optional<ShoppingListVersion> findVersionById(@Param("id") Integer id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT sl FROM ShoppingList sl WHERE sl.id = :id")
+    Optional<ShoppingList> lockById(@Param("id") Integer id);
+
+    @Query(value = "SELECT list_id FROM shopping_lists WHERE owner_user_id = :ownerId ORDER BY list_id FOR UPDATE",
+            nativeQuery = true)
+    List<Integer> lockIdsByOwnerId(@Param("ownerId") Integer ownerId);
+
+    @Query("SELECT MIN(sl.owner.id) FROM ShoppingList sl WHERE sl.owner.id > :afterId")
+    Optional<Integer> findNextOwnerId(@Param("afterId") Integer afterId);
+
+    @Query("SELECT sl.contentVersion FROM ShoppingList sl WHERE sl.id = :id")
+    Optional<Long> findContentVersionById(@Param("id") Integer id);
 
-    @Query("SELECT COUNT(i) FROM Item i WHERE i.shoppingList = :shoppingList AND i.isPurchased = true")
-    Integer countPurchasedItemsByShoppingList(@Param("shoppingList") ShoppingList shoppingList);
-}
\ No newline at end of file
+    @Query(value = "SELECT sl.list_id AS id, sl.list_name AS title, sl.list_description AS detail, " +
+            "sl.list_id AS \"listId\", " +
+            "CASE WHEN lower(sl.list_name) LIKE lower(:query) || '%' THEN 1 ELSE 0 END + " +
+            "greatest(similarity(lower(sl.list_name), lower(:query)), " +
+            "similarity(lower(coalesce(sl.list_description, '')), lower(:query))) AS score " +
+            "FROM shopping_lists sl WHERE " + SEARCH_ACCESSIBLE +
+            "AND (lower(sl.list_name) LIKE '%' || lower(:query) || '%' " +
+            "OR lower(sl.list_description) LIKE '%' || lower(:query) || '%') " +
+            "ORDER BY score DESC, sl.list_id DESC LIMIT :limit", nativeQuery = true)
+    List<SearchMatch> searchAccessible(@Param("userId") Integer userId, @Param("query") String query, @Param("limit") int limit);
+}
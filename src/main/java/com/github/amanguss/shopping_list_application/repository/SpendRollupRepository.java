@@ -0,0 +1,93 @@
+package com.github.amanguss.shopping_list_application.repository;
+
+import com.github.amanguss.shopping_list_application.entity.SpendRollup;
+import com.github.amanguss.shopping_list_application.entity.SpendRollupId;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupDimension;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupPeriod;
+import com.github.amanguss.shopping_list_application.repository.projection.CategorySpend;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SpendRollupRepository extends JpaRepository<SpendRollup, SpendRollupId> {
+
+    String ROLLUP_INSERT = "INSERT INTO spend_rollups (owner_id, dimension, dimension_id, period, bucket_start, " +
+            "spent_total, purchase_count) ";
+    String ROLLUP_FROM = "FROM items i JOIN shopping_lists sl ON sl.list_id = i.list_id " +
+            "CROSS JOIN LATERAL (VALUES ('LIST', i.list_id), ('OWNER', sl.owner_user_id), ('CATEGORY', i.category_id)) " +
+            "d(dimension, dimension_id) " +
+            "CROSS JOIN LATERAL (VALUES ('DAY', CAST(i.purchase_date AS date)), " +
+            "('WEEK', CAST(date_trunc('week', i.purchase_date) AS date)), " +
+            "('MONTH', CAST(date_trunc('month', i.purchase_date) AS date))) p(period, bucket_start) " +
+            "WHERE i.is_purchased = true AND i.purchase_date IS NOT NULL AND i.actual_price IS NOT NULL " +
+            "AND d.dimension_id IS NOT NULL ";
+    String ROLLUP_GROUP = "GROUP BY 1, 2, 3, 4, 5 ORDER BY 1, 2, 3, 4, 5 ";
+    String ROLLUP_SUBTRACT = ROLLUP_INSERT + "SELECT sl.owner_user_id, d.dimension, d.dimension_id, p.period, p.bucket_start, " +
+            "-sum(i.actual_price * coalesce(i.quantity, 0)), -count(*) " + ROLLUP_FROM;
+    String ROLLUP_MERGE = "ON CONFLICT (owner_id, dimension, dimension_id, period, bucket_start) DO UPDATE SET " +
+            "spent_total = spend_rollups.spent_total + excluded.spent_total, " +
+            "purchase_count = spend_rollups.purchase_count + excluded.purchase_count";
+
+    Optional<SpendRollup> findByOwnerIdAndDimensionAndDimensionIdAndPeriodAndBucketStart(Integer ownerId,
+                                                                                         RollupDimension dimension,
+                                                                                         Integer dimensionId,
+                                                                                         RollupPeriod period,
+                                                                                         LocalDate bucketStart);
+
+    List<SpendRollup> findByOwnerIdAndDimensionAndDimensionIdAndPeriodAndBucketStartBetweenOrderByBucketStartDesc(
+            Integer ownerId, RollupDimension dimension, Integer dimensionId, RollupPeriod period,
+            LocalDate from, LocalDate to);
+
+    @Query("SELECT r.dimensionId AS categoryId, c.name AS categoryName, r.spentTotal AS spentTotal, " +
+            "r.purchaseCount AS purchaseCount FROM SpendRollup r JOIN Category c ON c.id = r.dimensionId " +
+            "WHERE r.ownerId = :ownerId AND r.dimension = :dimension AND r.period = :period " +
+            "AND r.bucketStart = :bucketStart AND r.purchaseCount > 0 ORDER BY r.spentTotal DESC, r.dimensionId")
+    List<CategorySpend> findCategorySpend(@Param("ownerId") Integer ownerId,
+                                          @Param("dimension") RollupDimension dimension,
+                                          @Param("period") RollupPeriod period,
+                                          @Param("bucketStart") LocalDate bucketStart);
+
+    @Modifying
+    @Query(value = ROLLUP_INSERT + "VALUES (:ownerId, :dimension, :dimensionId, :period, :bucketStart, :spent, :count) " +
+            ROLLUP_MERGE, nativeQuery = true)
+    void addSpend(@Param("ownerId") Integer ownerId,
+                  @Param("dimension") String dimension,
+                  @Param("dimensionId") Integer dimensionId,
+                  @Param("period") String period,
+                  @Param("bucketStart") LocalDate bucketStart,
+                  @Param("spent") Double spent,
+                  @Param("count") Integer count);
+
+    @Modifying
+    @Query(value = ROLLUP_SUBTRACT + "AND i.item_id IN :ids " + ROLLUP_GROUP + ROLLUP_MERGE, nativeQuery = true)
+    void subtractPurchasedItems(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query(value = ROLLUP_SUBTRACT + "AND i.list_id = :shoppingListId " + ROLLUP_GROUP + ROLLUP_MERGE, nativeQuery = true)
+    void subtractShoppingList(@Param("shoppingListId") Integer shoppingListId);
+
+    @Modifying
+    @Query(value = "DELETE FROM spend_rollups WHERE owner_id = :ownerId", nativeQuery = true)
+    int deleteByOwner(@Param("ownerId") Integer ownerId);
+
+    @Modifying
+    @Query(value = ROLLUP_INSERT + "SELECT sl.owner_user_id, d.dimension, d.dimension_id, p.period, p.bucket_start, " +
+            "sum(i.actual_price * coalesce(i.quantity, 0)), count(*) " + ROLLUP_FROM +
+            "AND sl.owner_user_id = :ownerId " + ROLLUP_GROUP, nativeQuery = true)
+    int rebuildForOwner(@Param("ownerId") Integer ownerId);
+
+    @Query(value = "SELECT CAST(CAST(pg_current_xact_id() AS text) AS bigint)", nativeQuery = true)
+    Long currentTransactionId();
+
+    @Query(value = "SELECT CAST(pg_current_snapshot() AS text)", nativeQuery = true)
+    String currentSnapshot();
+}
@@ -1,12 +1,15 @@
 package com.github.amanguss.shopping_list_application.repository;
 
 import com.github.amanguss.shopping_list_application.entity.User;
+import com.github.amanguss.shopping_list_application.repository.projection.SearchMatch;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,9 +22,27 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     @Query("SELECT u FROM User u ORDER BY u.lastName ASC, u.firstName ASC")
     List<User> findAllOrderByName();
 
+    @Query("SELECT u FROM User u " +
+            "WHERE u.registrationDate < :registrationDate OR (u.registrationDate = :registrationDate AND u.id < :id) " +
+            "ORDER BY u.registrationDate DESC, u.id DESC")
+    List<User> findPage(@Param("registrationDate") LocalDateTime registrationDate,
+                        @Param("id") Integer id,
+                        Pageable pageable);
+
     @Query("SELECT u FROM User u WHERE LOWER(u.firstName) LIKE LOWER(CONCAT('%', :name, '%')) OR LOWER(u.lastName) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<User> findByNameContainingIgnoreCase(@Param("name") String name);
 
     @Query("SELECT COUNT(sl) FROM ShoppingList sl WHERE sl.owner = :user")
     Integer countShoppingListsByUser(@Param("user") User user);
-}
\ No newline at end of file
+
+    @Query(value = "SELECT u.user_id AS id, u.first_name || ' ' || u.last_name AS title, u.email_address AS detail, " +
+            "CAST(NULL AS integer) AS \"listId\", " +
+            "CASE WHEN lower(u.first_name) LIKE lower(:query) || '%' " +
+            "OR lower(u.last_name) LIKE lower(:query) || '%' THEN 1 ELSE 0 END + " +
+            "greatest(similarity(lower(u.first_name), lower(:query)), similarity(lower(u.last_name), lower(:query))) AS score " +
+            "FROM users u " +
+            "WHERE lower(u.first_name) LIKE '%' || lower(:query) || '%' " +
+            "OR lower(u.last_name) LIKE '%' || lower(:query) || '%' " +
+            "ORDER BY score DESC, u.user_id DESC LIMIT :limit", nativeQuery = true)
+    List<SearchMatch> searchByName(@Param("query") String query, @Param("limit") int limit);
+}
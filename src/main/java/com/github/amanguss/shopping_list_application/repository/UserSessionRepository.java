@@ -2,12 +2,15 @@ package com.github.amanguss.shopping_list_application.repository;
 
 import com.github.amanguss.shopping_list_application.entity.User;
 import com.github.amanguss.shopping_list_application.entity.UserSession;
+import com.github.amanguss.shopping_list_application.repository.projection.BrowserStatistic;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,10 +19,19 @@ import java.util.Optional;
 @Repository
 public interface UserSessionRepository extends JpaRepository<UserSession, Integer> {
 
-    List<UserSession> findByUserAndIsActiveTrueOrderByLoginTimeDesc(User user);
+    Long countByUserAndIsActiveTrue(User user);
+
+    @EntityGraph("UserSession.user")
+    Optional<UserSession> findDetailedById(Integer id);
+
+    @EntityGraph("UserSession.user")
     Optional<UserSession> findBySessionTokenAndIsActiveTrue(String sessionToken);
+
+    @EntityGraph("UserSession.user")
+    List<UserSession> findByUserAndIsActiveTrueOrderByLoginTimeDesc(User user);
+
+    @EntityGraph("UserSession.user")
     List<UserSession> findByUserOrderByLoginTimeDesc(User user);
-    Long countByUserAndIsActiveTrue(User user);
 
     @Modifying
     @Query("UPDATE UserSession us SET us.isActive = false, us.logoutTime = :logoutTime " +
@@ -31,6 +43,41 @@ public interface UserSessionRepository extends JpaRepository<UserSession, Intege
             "WHERE us.lastActivityTime < :cutoffTime AND us.isActive = true")
     void deactivateExpiredSessions(@Param("cutoffTime") LocalDateTime cutoffTime, @Param("logoutTime") LocalDateTime logoutTime);
 
-    @Query("SELECT us.userAgent, COUNT(us) FROM UserSession us GROUP BY us.userAgent ORDER BY COUNT(us) DESC")
-    List<Object[]> getBrowserStatistics();
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE user_sessions us SET last_activity_timestamp = pending.activity_time, " +
+            "last_modified_date = :modifiedDate " +
+            "FROM unnest(CAST(:ids AS integer[]), CAST(:activityTimes AS timestamp[])) AS pending(session_id, activity_time) " +
+            "WHERE us.session_id = pending.session_id AND us.is_active = true " +
+            "AND (us.last_activity_timestamp IS NULL OR us.last_activity_timestamp < pending.activity_time)",
+            nativeQuery = true)
+    int updateLastActivity(@Param("ids") Integer[] ids,
+                           @Param("activityTimes") LocalDateTime[] activityTimes,
+                           @Param("modifiedDate") LocalDateTime modifiedDate);
+
+    @Modifying
+    @Transactional
+    @Query(value = "WITH archived AS (" +
+            "DELETE FROM user_sessions WHERE session_id IN (" +
+            "SELECT session_id FROM user_sessions WHERE is_active = false AND logout_timestamp < :cutoffTime " +
+            "ORDER BY logout_timestamp LIMIT :batchSize FOR UPDATE SKIP LOCKED) " +
+            "RETURNING session_id, user_id, last_activity_timestamp, login_timestamp, logout_timestamp, " +
+            "ip_address, session_token, user_agent, browser_family, os_family) " +
+            "INSERT INTO user_sessions_archive (session_id, user_id, last_activity_timestamp, login_timestamp, " +
+            "logout_timestamp, archived_at, ip_address, session_token, user_agent, browser_family, os_family) " +
+            "SELECT session_id, user_id, last_activity_timestamp, login_timestamp, logout_timestamp, " +
+            "now(), ip_address, session_token, user_agent, browser_family, os_family FROM archived", nativeQuery = true)
+    int archiveInactiveSessions(@Param("cutoffTime") LocalDateTime cutoffTime, @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO browser_statistics (browser_family, os_family, session_count) " +
+            "VALUES (:browserFamily, :osFamily, 1) ON CONFLICT (browser_family, os_family) " +
+            "DO UPDATE SET session_count = browser_statistics.session_count + 1", nativeQuery = true)
+    void incrementBrowserStatistic(@Param("browserFamily") String browserFamily, @Param("osFamily") String osFamily);
+
+    @Query(value = "SELECT browser_family AS \"browserFamily\", os_family AS \"osFamily\", " +
+            "session_count AS \"sessionCount\" FROM browser_statistics " +
+            "ORDER BY session_count DESC, browser_family, os_family", nativeQuery = true)
+    List<BrowserStatistic> findBrowserStatistics();
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.github.amanguss.shopping_list_application.repository.projection;
+
+public interface BrowserStatistic {
+
+    String getBrowserFamily();
+    String getOsFamily();
+    Long getSessionCount();
+}
@@ -0,0 +1,11 @@
+package com.github.amanguss.shopping_list_application.repository.projection;
+
+public interface BudgetThresholdState {
+
+    Integer getBudgetId();
+    Integer getShoppingListId();
+    Double getLimit();
+    Boolean getIsActive();
+    Boolean getIsOverBudget();
+    Double getSpentTotal();
+}
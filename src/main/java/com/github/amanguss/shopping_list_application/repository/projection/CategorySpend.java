@@ -0,0 +1,9 @@
+package com.github.amanguss.shopping_list_application.repository.projection;
+
+public interface CategorySpend {
+
+    Integer getCategoryId();
+    String getCategoryName();
+    Double getSpentTotal();
+    Integer getPurchaseCount();
+}
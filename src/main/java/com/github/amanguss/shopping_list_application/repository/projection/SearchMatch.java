@@ -0,0 +1,10 @@
+package com.github.amanguss.shopping_list_application.repository.projection;
+
+public interface SearchMatch {
+
+    Integer getId();
+    String getTitle();
+    String getDetail();
+    Integer getListId();
+    Double getScore();
+}
@@ -0,0 +1,7 @@
+package com.github.amanguss.shopping_list_application.repository.projection;
+
+public interface ShareAccess {
+
+    Integer getShoppingListId();
+    Integer getSharedToId();
+}
@@ -0,0 +1,10 @@
+package com.github.amanguss.shopping_list_application.repository.projection;
+
+import com.github.amanguss.shopping_list_application.entity.ShoppingList;
+
+public interface ShoppingListSummary {
+
+    ShoppingList getShoppingList();
+    Integer getTotalItems();
+    Integer getPurchasedItems();
+}
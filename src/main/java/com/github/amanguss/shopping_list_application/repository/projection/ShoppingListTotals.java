@@ -0,0 +1,14 @@
+package com.github.amanguss.shopping_list_application.repository.projection;
+
+public interface ShoppingListTotals {
+
+    Integer getListId();
+    Integer getStoredItemCount();
+    Integer getStoredPurchasedCount();
+    Double getStoredEstimatedTotal();
+    Double getStoredSpentTotal();
+    Long getItemCount();
+    Long getPurchasedCount();
+    Double getEstimatedTotal();
+    Double getSpentTotal();
+}
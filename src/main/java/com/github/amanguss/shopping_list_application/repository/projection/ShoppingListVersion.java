@@ -0,0 +1,11 @@
+package com.github.amanguss.shopping_list_application.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface ShoppingListVersion {
+
+    Integer getListId();
+    Long getContentVersion();
+    Long getCompactedVersion();
+    LocalDateTime getLastModifiedDate();
+}
@@ -0,0 +1,11 @@
+package com.github.amanguss.shopping_list_application.repository.projection;
+
+public interface SpendCell {
+
+    Integer getOwnerId();
+    Integer getDimensionId();
+    Integer getMonth();
+    Double getSpent();
+    Double getEstimated();
+    Long getPurchases();
+}
@@ -0,0 +1,45 @@
+package com.github.amanguss.shopping_list_application.routing;
+
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Long> PRIMARY_UNTIL = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static void pinToPrimaryUntil(long epochMillis) {
+        Long current = PRIMARY_UNTIL.get();
+        if (current == null || current < epochMillis) {
+            PRIMARY_UNTIL.set(epochMillis);
+        }
+    }
+
+    public static boolean isPinnedToPrimary() {
+        Long until = PRIMARY_UNTIL.get();
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    public static void clear() {
+        PRIMARY_UNTIL.remove();
+    }
+
+    public static Runnable propagate(Runnable task) {
+        Long until = PRIMARY_UNTIL.get();
+        if (until == null) {
+            return task;
+        }
+        return () -> {
+            Long previous = PRIMARY_UNTIL.get();
+            PRIMARY_UNTIL.set(until);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    PRIMARY_UNTIL.remove();
+                } else {
+                    PRIMARY_UNTIL.set(previous);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.amanguss.shopping_list_application.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final Duration readYourWritesWindow;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return ReplicaRoutingContext.isPinnedToPrimary() ? Route.PRIMARY : Route.REPLICA;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ReplicaRoutingContext.pinToPrimaryUntil(System.currentTimeMillis() + readYourWritesWindow.toMillis());
+                }
+            });
+        }
+        return Route.PRIMARY;
+    }
+}
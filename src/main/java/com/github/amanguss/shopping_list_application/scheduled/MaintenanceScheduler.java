@@ -1,13 +1,24 @@
 package com.github.amanguss.shopping_list_application.scheduled;
 
+import com.github.amanguss.shopping_list_application.config.ListChangeLogProperties;
+import com.github.amanguss.shopping_list_application.config.SessionArchiveProperties;
+import com.github.amanguss.shopping_list_application.config.SpendRollupBackfillProperties;
+import com.github.amanguss.shopping_list_application.service.AnalyticsService;
+import com.github.amanguss.shopping_list_application.service.BudgetService;
 import com.github.amanguss.shopping_list_application.service.ListShareService;
+import com.github.amanguss.shopping_list_application.service.ListSyncService;
+import com.github.amanguss.shopping_list_application.service.ShoppingListService;
+import com.github.amanguss.shopping_list_application.service.SpendRollupService;
 import com.github.amanguss.shopping_list_application.service.UserSessionService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.IntUnaryOperator;
 
 @Component
 @RequiredArgsConstructor
@@ -15,7 +26,18 @@ import java.time.LocalDateTime;
 public class MaintenanceScheduler {
 
     private final UserSessionService userSessionService;
+    private final BudgetService budgetService;
     private final ListShareService listShareService;
+    private final ShoppingListService shoppingListService;
+    private final ListSyncService listSyncService;
+    private final SpendRollupService spendRollupService;
+    private final AnalyticsService analyticsService;
+    private final MeterRegistry meterRegistry;
+    private final SessionArchiveProperties sessionArchiveProperties;
+    private final ListChangeLogProperties changeLogProperties;
+    private final SpendRollupBackfillProperties spendRollupBackfillProperties;
+
+    private int spendRollupCursor;
 
     @Scheduled(fixedRate = 3600000)
     public void cleanupExpiredSessions() {
@@ -28,13 +50,131 @@ public class MaintenanceScheduler {
         }
     }
 
+    @Scheduled(fixedRate = 3600000, initialDelay = 600000)
+    public void archiveInactiveSessions() {
+        try {
+            LocalDateTime cutoffTime = LocalDateTime.now().minus(sessionArchiveProperties.retention());
+            int batchSize = sessionArchiveProperties.batchSize();
+            int archived = 0;
+            for (int batch = 0; batch < sessionArchiveProperties.maxBatchesPerRun(); batch++) {
+                int moved = userSessionService.archiveInactiveSessions(cutoffTime, batchSize);
+                archived += moved;
+                if (moved < batchSize) {
+                    break;
+                }
+                Thread.sleep(sessionArchiveProperties.batchPause().toMillis());
+            }
+            meterRegistry.counter("maintenance.sessions.archived").increment(archived);
+            log.info("Inactive sessions archival completed, {} sessions archived", archived);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Session archival interrupted");
+        } catch (Exception e) {
+            log.error("Error during session archival", e);
+        }
+    }
+
+    @Scheduled(fixedRate = 60000)
+    public void flushSessionActivity() {
+        try {
+            int flushed = userSessionService.flushLastActivity();
+            log.debug("Session activity flush completed, {} sessions updated", flushed);
+        } catch (Exception e) {
+            log.error("Error during session activity flush", e);
+        }
+    }
+
     @Scheduled(fixedRate = 7200000)
     public void cleanupExpiredShares() {
         try {
-            listShareService.cleanupExpiredShares();
-            log.info("Expired shares cleanup completed");
+            int deactivated = listShareService.cleanupExpiredShares();
+            meterRegistry.counter("maintenance.shares.expired").increment(deactivated);
+            log.info("Expired shares cleanup completed, {} shares deactivated", deactivated);
         } catch (Exception e) {
             log.error("Error during shares cleanup", e);
         }
     }
-}
\ No newline at end of file
+
+    @Scheduled(fixedRate = 3600000, initialDelay = 1200000)
+    public void compactListChanges() {
+        try {
+            int superseded = drainChangeLog(listSyncService::compactSupersededChanges);
+            LocalDateTime cutoffTime = LocalDateTime.now().minus(changeLogProperties.retention());
+            int truncated = drainChangeLog(batchSize -> listSyncService.truncateChanges(cutoffTime, batchSize));
+            meterRegistry.counter("maintenance.list.changes.compacted").increment(superseded);
+            meterRegistry.counter("maintenance.list.changes.truncated").increment(truncated);
+            log.info("List change log compaction completed, {} superseded and {} expired changes removed", superseded, truncated);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("List change log compaction interrupted");
+        } catch (Exception e) {
+            log.error("Error during list change log compaction", e);
+        }
+    }
+
+    @Scheduled(fixedRate = 86400000)
+    public void reconcileShoppingListTotals() {
+        try {
+            int drifted = shoppingListService.reconcileItemTotals();
+            if (drifted > 0) {
+                log.warn("Shopping list totals reconciliation repaired {} lists", drifted);
+            } else {
+                log.info("Shopping list totals reconciliation completed");
+            }
+            int flagged = budgetService.reconcileOverBudgetFlags();
+            if (flagged > 0) {
+                log.warn("Over-budget flag reconciliation repaired {} budgets", flagged);
+            }
+        } catch (Exception e) {
+            log.error("Error during shopping list totals reconciliation", e);
+        }
+    }
+
+    @Scheduled(fixedRate = 3600000, initialDelay = 1800000)
+    public void backfillSpendRollups() {
+        try {
+            int rebuilt = 0;
+            for (int run = 0; run < spendRollupBackfillProperties.maxOwnersPerRun(); run++) {
+                Optional<Integer> ownerId = spendRollupService.rebuildNextOwner(spendRollupCursor);
+                if (ownerId.isEmpty()) {
+                    spendRollupCursor = 0;
+                    break;
+                }
+                spendRollupCursor = ownerId.get();
+                rebuilt++;
+                Thread.sleep(spendRollupBackfillProperties.ownerPause().toMillis());
+            }
+            meterRegistry.counter("maintenance.spend.rollups.rebuilt").increment(rebuilt);
+            log.info("Spend rollup backfill completed, {} owners rebuilt", rebuilt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Spend rollup backfill interrupted");
+        } catch (Exception e) {
+            log.error("Error during spend rollup backfill", e);
+        }
+    }
+
+    @Scheduled(fixedRate = 86400000, initialDelay = 3600000)
+    public void rebuildSpendAnalytics() {
+        try {
+            int rows = analyticsService.rebuildCubes();
+            log.info("Spend analytics rebuild completed, {} cube rows", rows);
+        } catch (Exception e) {
+            log.error("Error during spend analytics rebuild", e);
+        }
+    }
+
+    private int drainChangeLog(IntUnaryOperator batch) throws InterruptedException {
+        int batchSize = changeLogProperties.batchSize();
+        int removed = 0;
+        for (int run = 0; run < changeLogProperties.maxBatchesPerRun(); run++) {
+            int deleted = batch.applyAsInt(batchSize);
+            removed += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+            Thread.sleep(changeLogProperties.batchPause().toMillis());
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.amanguss.shopping_list_application.service;
+
+import com.github.amanguss.shopping_list_application.dto.analytics.CategoryMonthSpendDto;
+import com.github.amanguss.shopping_list_application.dto.analytics.CategoryVarianceDto;
+import com.github.amanguss.shopping_list_application.dto.analytics.ListSpendDto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface AnalyticsService {
+
+    List<CategoryMonthSpendDto> getCategorySpend(Integer userId, YearMonth from, YearMonth to);
+    List<CategoryVarianceDto> getCategoryVariance(Integer userId, YearMonth from, YearMonth to);
+    List<ListSpendDto> getTopLists(Integer userId, YearMonth from, YearMonth to, Integer limit);
+    int rebuildCubes();
+}
@@ -2,6 +2,7 @@ package com.github.amanguss.shopping_list_application.service;
 
 import com.github.amanguss.shopping_list_application.dto.budget.BudgetCreateDto;
 import com.github.amanguss.shopping_list_application.dto.budget.BudgetResponseDto;
+import com.github.amanguss.shopping_list_application.dto.spend.SpendBucketDto;
 import com.github.amanguss.shopping_list_application.entity.enums.Period;
 
 import java.util.List;
@@ -15,6 +16,7 @@ public interface BudgetService {
     List<BudgetResponseDto> getBudgetsByPeriod(Period period);
     List<BudgetResponseDto> getBudgetsByCurrency(String currency);
     List<BudgetResponseDto> getOverBudgetLists();
+    int reconcileOverBudgetFlags();
     List<BudgetResponseDto> getBudgetsByUserId(Integer userId);
     BudgetResponseDto updateBudget(Integer id, BudgetCreateDto dto);
     BudgetResponseDto activateBudget(Integer id);
@@ -23,4 +25,6 @@ public interface BudgetService {
     Double getCurrentSpent(Integer budgetId);
     Double getRemainingBudget(Integer budgetId);
     boolean isOverBudget(Integer budgetId);
+    Double getPeriodSpent(Integer budgetId);
+    List<SpendBucketDto> getSpendHistory(Integer budgetId, Integer buckets);
 }
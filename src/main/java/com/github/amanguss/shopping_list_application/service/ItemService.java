@@ -1,7 +1,9 @@
 package com.github.amanguss.shopping_list_application.service;
 
 import com.github.amanguss.shopping_list_application.dto.item.ItemCreateDto;
+import com.github.amanguss.shopping_list_application.dto.item.ItemPurchaseDto;
 import com.github.amanguss.shopping_list_application.dto.item.ItemResponseDto;
+import com.github.amanguss.shopping_list_application.dto.page.CursorPageResponseDto;
 import com.github.amanguss.shopping_list_application.entity.enums.PriorityLevel;
 
 import java.util.List;
@@ -16,12 +18,22 @@ public interface ItemService {
     List<ItemResponseDto> getItemsByCategory(Integer categoryId);
     List<ItemResponseDto> getItemsByPriority(PriorityLevel priority);
     List<ItemResponseDto> getAllItemsByUser(Integer userId);
+    CursorPageResponseDto<ItemResponseDto> getItemPageByShoppingList(Integer shoppingListId, String cursor, Integer size);
+    CursorPageResponseDto<ItemResponseDto> getPurchasedItemPageByShoppingList(Integer shoppingListId, String cursor, Integer size);
+    CursorPageResponseDto<ItemResponseDto> getUnpurchasedItemPageByShoppingList(Integer shoppingListId, String cursor, Integer size);
+    CursorPageResponseDto<ItemResponseDto> getItemPageByCategory(Integer categoryId, String cursor, Integer size);
+    CursorPageResponseDto<ItemResponseDto> getItemPageByPriority(PriorityLevel priority, String cursor, Integer size);
     ItemResponseDto updateItem(Integer id, ItemCreateDto dto);
     ItemResponseDto markAsPurchased(Integer id, Double actualPrice);
     ItemResponseDto markAsUnpurchased(Integer id);
     ItemResponseDto updateItemPriority(Integer id, PriorityLevel priority);
     void deleteItem(Integer id);
-    void deleteAllPurchasedItems(Integer shoppingListId);
+    int deleteAllPurchasedItems(Integer shoppingListId);
+    List<ItemResponseDto> createItems(Integer shoppingListId, List<ItemCreateDto> dtos);
+    List<ItemResponseDto> markItemsAsPurchased(List<ItemPurchaseDto> purchases);
+    List<ItemResponseDto> markItemsAsUnpurchased(List<Integer> ids);
+    List<ItemResponseDto> updateItemsPriority(List<Integer> ids, PriorityLevel priority);
+    void deleteItems(List<Integer> ids);
     Double calculateTotalSpent(Integer shoppingListId);
     Double calculateEstimatedTotal(Integer shoppingListId);
 }
@@ -21,6 +21,6 @@ public interface ListShareService {
     boolean hasAccess(Integer shoppingListId, Integer userId);
     boolean hasEditAccess(Integer shoppingListId, Integer userId);
     Long countSharedListsByUser(Integer userId);
-    void cleanupExpiredShares();
+    int cleanupExpiredShares();
     List<ShoppingListResponseDto> getSharedShoppingListsByUser(Integer userId);
 }
\ No newline at end of file
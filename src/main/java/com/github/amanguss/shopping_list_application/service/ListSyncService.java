@@ -0,0 +1,16 @@
+package com.github.amanguss.shopping_list_application.service;
+
+import com.github.amanguss.shopping_list_application.dto.sync.ListChangesDto;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+
+public interface ListSyncService {
+
+    boolean canSubscribe(Integer shoppingListId, Integer userId);
+    SseEmitter subscribe(Integer shoppingListId, Integer userId);
+    ListChangesDto getChanges(Integer shoppingListId, Long since);
+    int compactSupersededChanges(int batchSize);
+    int truncateChanges(LocalDateTime cutoffTime, int batchSize);
+}
@@ -0,0 +1,12 @@
+package com.github.amanguss.shopping_list_application.service;
+
+import com.github.amanguss.shopping_list_application.dto.search.SearchResponseDto;
+import com.github.amanguss.shopping_list_application.dto.search.SearchResultDto;
+
+import java.util.List;
+
+public interface SearchService {
+
+    SearchResponseDto search(Integer userId, String query, Integer limit);
+    List<SearchResultDto> searchUsers(String query, Integer limit);
+}
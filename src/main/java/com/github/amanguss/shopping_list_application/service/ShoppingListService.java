@@ -1,7 +1,9 @@
 package com.github.amanguss.shopping_list_application.service;
 
+import com.github.amanguss.shopping_list_application.dto.page.CursorPageResponseDto;
 import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListCreateDto;
 import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListResponseDto;
+import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListVersionDto;
 import com.github.amanguss.shopping_list_application.entity.enums.ListStatus;
 import com.github.amanguss.shopping_list_application.entity.enums.PriorityLevel;
 
@@ -11,11 +13,17 @@ public interface ShoppingListService {
 
     ShoppingListResponseDto createShoppingList(ShoppingListCreateDto dto, Integer ownerId);
     ShoppingListResponseDto getShoppingListById(Integer id);
+    ShoppingListVersionDto getShoppingListVersion(Integer id);
     List<ShoppingListResponseDto> getShoppingListsByOwner(Integer ownerId);
     List<ShoppingListResponseDto> getShoppingListsByOwnerAndStatus(Integer ownerId, ListStatus status);
     List<ShoppingListResponseDto> getTemplatesByOwner(Integer ownerId);
     List<ShoppingListResponseDto> getAccessibleLists(Integer userId);
     List<ShoppingListResponseDto> searchShoppingListsByName(Integer ownerId, String name);
+    CursorPageResponseDto<ShoppingListResponseDto> getShoppingListPageByOwner(Integer ownerId, String cursor, Integer size);
+    CursorPageResponseDto<ShoppingListResponseDto> getShoppingListPageByOwnerAndStatus(Integer ownerId, ListStatus status, String cursor, Integer size);
+    CursorPageResponseDto<ShoppingListResponseDto> getTemplatePageByOwner(Integer ownerId, String cursor, Integer size);
+    CursorPageResponseDto<ShoppingListResponseDto> getAccessibleListPage(Integer userId, String cursor, Integer size);
+    CursorPageResponseDto<ShoppingListResponseDto> searchShoppingListPageByName(Integer ownerId, String name, String cursor, Integer size);
     ShoppingListResponseDto updateShoppingList(Integer id, ShoppingListCreateDto dto);
     ShoppingListResponseDto updateShoppingListStatus(Integer id, ListStatus status);
     ShoppingListResponseDto updateShoppingListPriority(Integer id, PriorityLevel priority);
@@ -23,4 +31,5 @@ public interface ShoppingListService {
     ShoppingListResponseDto duplicateShoppingList(Integer id, String newName);
     ShoppingListResponseDto createFromTemplate(Integer templateId, String newName);
     boolean existsByNameAndOwner(String name, Integer ownerId);
+    int reconcileItemTotals();
 }
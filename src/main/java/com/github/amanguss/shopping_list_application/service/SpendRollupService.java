@@ -0,0 +1,19 @@
+package com.github.amanguss.shopping_list_application.service;
+
+import com.github.amanguss.shopping_list_application.dto.spend.CategorySpendDto;
+import com.github.amanguss.shopping_list_application.dto.spend.SpendBucketDto;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupDimension;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface SpendRollupService {
+
+    SpendBucketDto getSpend(Integer ownerId, RollupDimension dimension, Integer dimensionId, RollupPeriod period, LocalDate date);
+    List<SpendBucketDto> getSpendHistory(Integer ownerId, RollupDimension dimension, Integer dimensionId,
+                                         RollupPeriod period, Integer buckets);
+    List<CategorySpendDto> getCategorySpend(Integer ownerId, RollupPeriod period, LocalDate date);
+    Optional<Integer> rebuildNextOwner(Integer afterOwnerId);
+}
@@ -1,5 +1,6 @@
 package com.github.amanguss.shopping_list_application.service;
 
+import com.github.amanguss.shopping_list_application.dto.page.CursorPageResponseDto;
 import com.github.amanguss.shopping_list_application.dto.user.UserCreateDto;
 import com.github.amanguss.shopping_list_application.dto.user.UserResponseDto;
 import com.github.amanguss.shopping_list_application.entity.User;
@@ -13,6 +14,7 @@ public interface UserService {
     UserResponseDto getUserById(Integer id);
     UserResponseDto getUserByEmail(String email);
     List<UserResponseDto> getAllUsers();
+    CursorPageResponseDto<UserResponseDto> getUserPage(String cursor, Integer size);
     List<UserResponseDto> getUsersByName(String name);
     UserResponseDto updateUser(Integer id, UserCreateDto dto);
     void deleteUser(Integer id);
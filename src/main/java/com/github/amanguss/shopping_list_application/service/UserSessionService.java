@@ -1,5 +1,6 @@
 package com.github.amanguss.shopping_list_application.service;
 
+import com.github.amanguss.shopping_list_application.dto.userSession.BrowserStatisticDto;
 import com.github.amanguss.shopping_list_application.dto.userSession.UserSessionCreateDto;
 import com.github.amanguss.shopping_list_application.dto.userSession.UserSessionResponseDto;
 
@@ -17,6 +18,8 @@ public interface UserSessionService {
     void logoutSession(String token);
     void logoutAllUserSessions(Integer userId);
     void deactivateExpiredSessions(LocalDateTime cutoffTime);
+    int flushLastActivity();
+    int archiveInactiveSessions(LocalDateTime cutoffTime, int batchSize);
     Long countActiveSessionsByUser(Integer userId);
-    List<Object[]> getBrowserStatistics();
+    List<BrowserStatisticDto> getBrowserStatistics();
 }
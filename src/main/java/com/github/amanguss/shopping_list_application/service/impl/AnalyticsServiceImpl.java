@@ -0,0 +1,157 @@
+package com.github.amanguss.shopping_list_application.service.impl;
+
+import com.github.amanguss.shopping_list_application.analytics.SpendCube;
+import com.github.amanguss.shopping_list_application.analytics.SpendCubeIndex;
+import com.github.amanguss.shopping_list_application.config.AnalyticsProperties;
+import com.github.amanguss.shopping_list_application.dto.analytics.CategoryMonthSpendDto;
+import com.github.amanguss.shopping_list_application.dto.analytics.CategoryVarianceDto;
+import com.github.amanguss.shopping_list_application.dto.analytics.ListSpendDto;
+import com.github.amanguss.shopping_list_application.entity.Category;
+import com.github.amanguss.shopping_list_application.entity.ShoppingList;
+import com.github.amanguss.shopping_list_application.exception.ValidationException;
+import com.github.amanguss.shopping_list_application.repository.CategoryRepository;
+import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
+import com.github.amanguss.shopping_list_application.service.AnalyticsService;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private static final int DEFAULT_MONTHS = 12;
+    private static final int DEFAULT_TOP_LISTS = 10;
+
+    private final SpendCubeIndex spendCubes;
+    private final CategoryRepository categoryRepository;
+    private final ShoppingListRepository shoppingListRepository;
+    private final AnalyticsProperties properties;
+
+    @Override
+    public List<CategoryMonthSpendDto> getCategorySpend(Integer userId, YearMonth from, YearMonth to) {
+        MonthRange range = range(from, to);
+        Map<Long, SpendCube.Totals> totals = active(spendCubes.categories().aggregate(userId, range.from(), range.to(), true));
+        Map<Integer, String> names = categoryNames(totals.keySet());
+
+        return totals.entrySet()
+                .stream()
+                .map(entry -> new CategoryMonthSpendDto(
+                        SpendCube.yearMonth(SpendCube.groupMonth(entry.getKey())),
+                        SpendCube.groupKey(entry.getKey()),
+                        names.get(SpendCube.groupKey(entry.getKey())),
+                        entry.getValue().spent(),
+                        entry.getValue().purchases()))
+                .sorted(Comparator.comparing(CategoryMonthSpendDto::getMonth)
+                        .thenComparing(CategoryMonthSpendDto::getSpentTotal, Comparator.reverseOrder())
+                        .thenComparing(CategoryMonthSpendDto::getCategoryId))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CategoryVarianceDto> getCategoryVariance(Integer userId, YearMonth from, YearMonth to) {
+        MonthRange range = range(from, to);
+        Map<Long, SpendCube.Totals> totals = active(spendCubes.categories().aggregate(userId, range.from(), range.to(), false));
+        Map<Integer, String> names = categoryNames(totals.keySet());
+
+        return totals.entrySet()
+                .stream()
+                .map(entry -> {
+                    SpendCube.Totals total = entry.getValue();
+                    double variance = total.spent() - total.estimated();
+                    return new CategoryVarianceDto(
+                            SpendCube.groupKey(entry.getKey()),
+                            names.get(SpendCube.groupKey(entry.getKey())),
+                            total.estimated(),
+                            total.spent(),
+                            variance,
+                            total.estimated() != 0.0 ? variance / total.estimated() * 100.0 : null,
+                            total.purchases());
+                })
+                .sorted(Comparator.comparing((CategoryVarianceDto variance) -> Math.abs(variance.getVariance()))
+                        .reversed()
+                        .thenComparing(CategoryVarianceDto::getCategoryId))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ListSpendDto> getTopLists(Integer userId, YearMonth from, YearMonth to, Integer limit) {
+        int size = limit != null ? limit : DEFAULT_TOP_LISTS;
+        if (size < 1 || size > properties.maxTopLists()) {
+            throw new ValidationException("Limit must be between 1 and " + properties.maxTopLists());
+        }
+
+        MonthRange range = range(from, to);
+        List<Map.Entry<Long, SpendCube.Totals>> top = active(spendCubes.lists().aggregate(userId, range.from(), range.to(), false))
+                .entrySet()
+                .stream()
+                .sorted(Comparator.comparing((Map.Entry<Long, SpendCube.Totals> entry) -> entry.getValue().spent())
+                        .reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(size)
+                .collect(Collectors.toList());
+        Map<Integer, String> names = shoppingListRepository.findAllById(top.stream()
+                        .map(entry -> SpendCube.groupKey(entry.getKey()))
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(ShoppingList::getId, ShoppingList::getName));
+
+        return top.stream()
+                .map(entry -> new ListSpendDto(
+                        SpendCube.groupKey(entry.getKey()),
+                        names.get(SpendCube.groupKey(entry.getKey())),
+                        entry.getValue().spent(),
+                        entry.getValue().purchases()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildCubes() {
+        return spendCubes.rebuild();
+    }
+
+    private MonthRange range(YearMonth from, YearMonth to) {
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(DEFAULT_MONTHS - 1L);
+        if (start.isAfter(end)) {
+            throw new ValidationException("Start month must not be after end month");
+        }
+        YearMonth horizon = spendCubes.horizon();
+        if (start.isBefore(horizon)) {
+            throw new ValidationException("Analytics are only available from " + horizon);
+        }
+        return new MonthRange(SpendCube.monthIndex(start), SpendCube.monthIndex(end));
+    }
+
+    private Map<Long, SpendCube.Totals> active(Map<Long, SpendCube.Totals> totals) {
+        return totals.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().purchases() > 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private Map<Integer, String> categoryNames(Collection<Long> groups) {
+        Set<Integer> categoryIds = groups.stream()
+                .map(SpendCube::groupKey)
+                .collect(Collectors.toSet());
+        return categoryRepository.findAllById(categoryIds)
+                .stream()
+                .collect(Collectors.toMap(Category::getId, Category::getName));
+    }
+
+    private record MonthRange(int from, int to) {
+    }
+}
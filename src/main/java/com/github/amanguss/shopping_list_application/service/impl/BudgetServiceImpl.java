@@ -1,20 +1,26 @@
 package com.github.amanguss.shopping_list_application.service.impl;
 
+import com.github.amanguss.shopping_list_application.concurrency.RetryOnConflict;
 import com.github.amanguss.shopping_list_application.dto.budget.BudgetCreateDto;
 import com.github.amanguss.shopping_list_application.dto.budget.BudgetResponseDto;
+import com.github.amanguss.shopping_list_application.dto.spend.SpendBucketDto;
 import com.github.amanguss.shopping_list_application.entity.Budget;
 import com.github.amanguss.shopping_list_application.entity.ShoppingList;
 import com.github.amanguss.shopping_list_application.entity.enums.Period;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupDimension;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupPeriod;
+import com.github.amanguss.shopping_list_application.exception.ConflictException;
 import com.github.amanguss.shopping_list_application.exception.ResourceNotFoundException;
 import com.github.amanguss.shopping_list_application.exception.ValidationException;
 import com.github.amanguss.shopping_list_application.repository.BudgetRepository;
-import com.github.amanguss.shopping_list_application.repository.ItemRepository;
 import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
 import com.github.amanguss.shopping_list_application.service.BudgetService;
+import com.github.amanguss.shopping_list_application.service.SpendRollupService;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
@@ -23,16 +29,18 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class BudgetServiceImpl implements BudgetService {
 
     private final BudgetRepository budgetRepository;
     private final ShoppingListRepository shoppingListRepository;
-    private final ItemRepository itemRepository;
+    private final BudgetThresholdEvaluator budgetThresholds;
+    private final SpendRollupService spendRollupService;
 
     @Override
     @Transactional
     public BudgetResponseDto createBudget(Integer shoppingListId, BudgetCreateDto dto) {
-        ShoppingList shoppingList = shoppingListRepository.findById(shoppingListId)
+        ShoppingList shoppingList = shoppingListRepository.lockById(shoppingListId)
                 .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
 
         if (budgetRepository.findByShoppingList(shoppingList).isPresent()) {
@@ -51,6 +59,7 @@ public class BudgetServiceImpl implements BudgetService {
 
         shoppingList.setBudget(budget);
         budget.setShoppingList(shoppingList);
+        evaluateThreshold(saved);
 
         return mapToResponseDto(saved);
     }
@@ -105,6 +114,12 @@ public class BudgetServiceImpl implements BudgetService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reconcileOverBudgetFlags() {
+        return budgetRepository.reconcileOverBudgetFlags();
+    }
+
     @Override
     public List<BudgetResponseDto> getBudgetsByUserId(Integer userId) {
         return budgetRepository.findByShoppingListOwnerIdAndIsActiveTrueOrderByCreationDateDesc(userId)
@@ -115,9 +130,14 @@ public class BudgetServiceImpl implements BudgetService {
 
     @Override
     @Transactional
+    @RetryOnConflict
     public BudgetResponseDto updateBudget(Integer id, BudgetCreateDto dto) {
         Budget budget = budgetRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Budget not found"));
+        if (dto.getVersion() != null && !dto.getVersion().equals(budget.getVersion())) {
+            throw new ConflictException("Budget was modified by another user", mapToResponseDto(budget));
+        }
+        lockShoppingList(budget);
 
         budget.setLimit(dto.getLimit());
         budget.setCurrency(dto.getCurrency());
@@ -125,28 +145,38 @@ public class BudgetServiceImpl implements BudgetService {
         budget.setIsActive(dto.getIsActive());
 
         Budget saved = budgetRepository.save(budget);
+        budgetRepository.flush();
+        evaluateThreshold(saved);
         return mapToResponseDto(saved);
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
     public BudgetResponseDto activateBudget(Integer id) {
         Budget budget = budgetRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Budget not found"));
+        lockShoppingList(budget);
 
         budget.setIsActive(true);
         Budget saved = budgetRepository.save(budget);
+        budgetRepository.flush();
+        evaluateThreshold(saved);
         return mapToResponseDto(saved);
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
     public BudgetResponseDto deactivateBudget(Integer id) {
         Budget budget = budgetRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Budget not found"));
+        lockShoppingList(budget);
 
         budget.setIsActive(false);
         Budget saved = budgetRepository.save(budget);
+        budgetRepository.flush();
+        evaluateThreshold(saved);
         return mapToResponseDto(saved);
     }
 
@@ -164,8 +194,7 @@ public class BudgetServiceImpl implements BudgetService {
         Budget budget = budgetRepository.findById(budgetId)
                 .orElseThrow(() -> new ResourceNotFoundException("Budget not found"));
 
-        Double spent = itemRepository.calculateTotalSpentByShoppingList(budget.getShoppingList());
-        return spent != null ? spent : 0.0;
+        return currentSpent(budget);
     }
 
     @Override
@@ -173,10 +202,7 @@ public class BudgetServiceImpl implements BudgetService {
         Budget budget = budgetRepository.findById(budgetId)
                 .orElseThrow(() -> new ResourceNotFoundException("Budget not found"));
 
-        Double currentSpent = itemRepository.calculateTotalSpentByShoppingList(budget.getShoppingList());
-        currentSpent = currentSpent != null ? currentSpent : 0.0;
-
-        return budget.getLimit() - currentSpent;
+        return budget.getLimit() - currentSpent(budget);
     }
 
     @Override
@@ -184,9 +210,59 @@ public class BudgetServiceImpl implements BudgetService {
         return getRemainingBudget(budgetId) < 0;
     }
 
+    @Override
+    public Double getPeriodSpent(Integer budgetId) {
+        Budget budget = budgetRepository.findById(budgetId)
+                .orElseThrow(() -> new ResourceNotFoundException("Budget not found"));
+
+        RollupPeriod period = rollupPeriod(budget.getPeriod());
+        if (period == null) {
+            return currentSpent(budget);
+        }
+        ShoppingList shoppingList = budget.getShoppingList();
+        return spendRollupService.getSpend(shoppingList.getOwner().getId(), RollupDimension.LIST, shoppingList.getId(),
+                period, null).getSpentTotal();
+    }
+
+    @Override
+    public List<SpendBucketDto> getSpendHistory(Integer budgetId, Integer buckets) {
+        Budget budget = budgetRepository.findById(budgetId)
+                .orElseThrow(() -> new ResourceNotFoundException("Budget not found"));
+
+        RollupPeriod period = rollupPeriod(budget.getPeriod());
+        if (period == null) {
+            throw new ValidationException("Spend history is only available for weekly or monthly budgets");
+        }
+        ShoppingList shoppingList = budget.getShoppingList();
+        return spendRollupService.getSpendHistory(shoppingList.getOwner().getId(), RollupDimension.LIST,
+                shoppingList.getId(), period, buckets);
+    }
+
+    private void lockShoppingList(Budget budget) {
+        shoppingListRepository.lockById(budget.getShoppingList().getId());
+    }
+
+    private void evaluateThreshold(Budget budget) {
+        budgetThresholds.evaluate(budget.getShoppingList().getId()).ifPresent(alert -> {
+            budget.setIsOverBudget(alert.getOverBudget());
+            budget.setOverBudgetSince(alert.getOverBudget() ? alert.getCrossedAt() : null);
+        });
+    }
+
+    private RollupPeriod rollupPeriod(Period period) {
+        return switch (period) {
+            case WEEKLY -> RollupPeriod.WEEK;
+            case MONTHLY -> RollupPeriod.MONTH;
+            case PER_LIST -> null;
+        };
+    }
+
+    private Double currentSpent(Budget budget) {
+        return budget.getShoppingList().getSpentTotal();
+    }
+
     private BudgetResponseDto mapToResponseDto(Budget budget) {
-        Double currentSpent = itemRepository.calculateTotalSpentByShoppingList(budget.getShoppingList());
-        currentSpent = currentSpent != null ? currentSpent : 0.0;
+        Double currentSpent = currentSpent(budget);
         Double remainingBudget = budget.getLimit() - currentSpent;
 
         return new BudgetResponseDto(
@@ -199,7 +275,10 @@ public class BudgetServiceImpl implements BudgetService {
                 budget.getShoppingList().getId(),
                 budget.getShoppingList().getName(),
                 currentSpent,
-                remainingBudget
+                remainingBudget,
+                budget.getIsOverBudget(),
+                budget.getOverBudgetSince(),
+                budget.getVersion()
         );
     }
 }
\ No newline at end of file
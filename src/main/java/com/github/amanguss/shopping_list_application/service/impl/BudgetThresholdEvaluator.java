@@ -0,0 +1,44 @@
+package com.github.amanguss.shopping_list_application.service.impl;
+
+import com.github.amanguss.shopping_list_application.dto.budget.BudgetAlertDto;
+import com.github.amanguss.shopping_list_application.repository.BudgetRepository;
+import com.github.amanguss.shopping_list_application.repository.projection.BudgetThresholdState;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+class BudgetThresholdEvaluator {
+
+    private final BudgetRepository budgetRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    Optional<BudgetAlertDto> evaluate(Integer shoppingListId) {
+        return budgetRepository.findThresholdStateByShoppingListId(shoppingListId)
+                .flatMap(this::evaluate);
+    }
+
+    private Optional<BudgetAlertDto> evaluate(BudgetThresholdState state) {
+        double spent = state.getSpentTotal();
+        boolean overBudget = Boolean.TRUE.equals(state.getIsActive()) && spent > state.getLimit();
+        if (overBudget == Boolean.TRUE.equals(state.getIsOverBudget())) {
+            return Optional.empty();
+        }
+
+        LocalDateTime crossedAt = LocalDateTime.now();
+        if (budgetRepository.updateOverBudget(state.getBudgetId(), overBudget, overBudget ? crossedAt : null) == 0) {
+            return Optional.empty();
+        }
+
+        BudgetAlertDto alert = new BudgetAlertDto(state.getBudgetId(), state.getShoppingListId(), overBudget,
+                state.getLimit(), spent, crossedAt);
+        eventPublisher.publishEvent(alert);
+        return Optional.of(alert);
+    }
+}
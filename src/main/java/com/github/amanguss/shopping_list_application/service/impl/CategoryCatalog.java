@@ -0,0 +1,62 @@
+package com.github.amanguss.shopping_list_application.service.impl;
+
+import com.github.amanguss.shopping_list_application.config.CacheConfig;
+import com.github.amanguss.shopping_list_application.dto.category.CategoryResponseDto;
+import com.github.amanguss.shopping_list_application.entity.Category;
+import com.github.amanguss.shopping_list_application.exception.ResourceNotFoundException;
+import com.github.amanguss.shopping_list_application.repository.CategoryRepository;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CategoryCatalog {
+
+    private final CategoryRepository categoryRepository;
+
+    @Cacheable(cacheNames = CacheConfig.CATEGORY, key = "#id")
+    public CategoryResponseDto getById(Integer id) {
+        return categoryRepository.findById(id)
+                .map(CategoryCatalog::toRow)
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES, key = "'all'")
+    public List<CategoryResponseDto> getAll() {
+        return toRows(categoryRepository.findAllOrderByDisplayOrderAndName());
+    }
+
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES, key = "'system'")
+    public List<CategoryResponseDto> getSystem() {
+        return toRows(categoryRepository.findByIsSystemCategoryTrue());
+    }
+
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES, key = "'user'")
+    public List<CategoryResponseDto> getUser() {
+        return toRows(categoryRepository.findByIsSystemCategoryFalse());
+    }
+
+    static List<CategoryResponseDto> toRows(List<Category> categories) {
+        return categories.stream().map(CategoryCatalog::toRow).toList();
+    }
+
+    static CategoryResponseDto toRow(Category category) {
+        return new CategoryResponseDto(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.getColor(),
+                category.getIsSystemCategory(),
+                category.getCreationDate(),
+                category.getDisplayOrder(),
+                null
+        );
+    }
+}
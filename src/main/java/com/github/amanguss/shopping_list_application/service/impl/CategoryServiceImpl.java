@@ -1,30 +1,38 @@
 package com.github.amanguss.shopping_list_application.service.impl;
 
+import com.github.amanguss.shopping_list_application.config.CacheConfig;
 import com.github.amanguss.shopping_list_application.dto.category.CategoryCreateDto;
 import com.github.amanguss.shopping_list_application.dto.category.CategoryResponseDto;
 import com.github.amanguss.shopping_list_application.entity.Category;
 import com.github.amanguss.shopping_list_application.exception.ResourceNotFoundException;
 import com.github.amanguss.shopping_list_application.exception.ValidationException;
 import com.github.amanguss.shopping_list_application.repository.CategoryRepository;
+import com.github.amanguss.shopping_list_application.repository.projection.CategoryItemCount;
 import com.github.amanguss.shopping_list_application.service.CategoryService;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryCatalog categoryCatalog;
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true)
     public CategoryResponseDto createCategory(CategoryCreateDto dto) {
         if (categoryRepository.existsByNameIgnoreCase(dto.getName())) {
             throw new ValidationException("Category with this name already exists");
@@ -44,45 +52,35 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     public CategoryResponseDto getCategoryById(Integer id) {
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
-        return mapToResponseDto(category);
+        return withItemCounts(List.of(categoryCatalog.getById(id))).get(0);
     }
 
     @Override
     public List<CategoryResponseDto> getAllCategories() {
-        return categoryRepository.findAllOrderByDisplayOrderAndName()
-                .stream()
-                .map(this::mapToResponseDto)
-                .collect(Collectors.toList());
+        return withItemCounts(categoryCatalog.getAll());
     }
 
     @Override
     public List<CategoryResponseDto> getSystemCategories() {
-        return categoryRepository.findByIsSystemCategoryTrue()
-                .stream()
-                .map(this::mapToResponseDto)
-                .collect(Collectors.toList());
+        return withItemCounts(categoryCatalog.getSystem());
     }
 
     @Override
     public List<CategoryResponseDto> getUserCategories() {
-        return categoryRepository.findByIsSystemCategoryFalse()
-                .stream()
-                .map(this::mapToResponseDto)
-                .collect(Collectors.toList());
+        return withItemCounts(categoryCatalog.getUser());
     }
 
     @Override
     public List<CategoryResponseDto> getCategoriesWithItems() {
-        return categoryRepository.findCategoriesWithItems()
-                .stream()
-                .map(this::mapToResponseDto)
-                .collect(Collectors.toList());
+        return withItemCounts(CategoryCatalog.toRows(categoryRepository.findCategoriesWithItems()));
     }
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORY, key = "#id")
+    })
     public CategoryResponseDto updateCategory(Integer id, CategoryCreateDto dto) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
@@ -103,6 +101,10 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORY, key = "#id")
+    })
     public void deleteCategory(Integer id) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
@@ -124,6 +126,27 @@ public class CategoryServiceImpl implements CategoryService {
         return categoryRepository.existsByNameIgnoreCase(name);
     }
 
+    private List<CategoryResponseDto> withItemCounts(List<CategoryResponseDto> rows) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Map<Integer, Long> itemCounts = categoryRepository.countItemsByCategoryIds(
+                        rows.stream().map(CategoryResponseDto::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(CategoryItemCount::getCategoryId, CategoryItemCount::getItemCount));
+        return rows.stream()
+                .map(row -> new CategoryResponseDto(
+                        row.getId(),
+                        row.getName(),
+                        row.getDescription(),
+                        row.getColor(),
+                        row.getIsSystemCategory(),
+                        row.getCreationDate(),
+                        row.getDisplayOrder(),
+                        itemCounts.getOrDefault(row.getId(), 0L).intValue()))
+                .collect(Collectors.toList());
+    }
+
     private CategoryResponseDto mapToResponseDto(Category category) {
         Integer itemCount = categoryRepository.countItemsByCategory(category);
 
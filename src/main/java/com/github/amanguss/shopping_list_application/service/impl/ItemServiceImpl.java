@@ -1,33 +1,57 @@
 package com.github.amanguss.shopping_list_application.service.impl;
 
+import com.github.amanguss.shopping_list_application.concurrency.RetryOnConflict;
+import com.github.amanguss.shopping_list_application.dto.analytics.PurchaseSpendDto;
 import com.github.amanguss.shopping_list_application.dto.item.ItemCreateDto;
+import com.github.amanguss.shopping_list_application.dto.item.ItemPurchaseDto;
 import com.github.amanguss.shopping_list_application.dto.item.ItemResponseDto;
+import com.github.amanguss.shopping_list_application.dto.page.CursorPageResponseDto;
+import com.github.amanguss.shopping_list_application.dto.sync.ItemDeltaDto;
 import com.github.amanguss.shopping_list_application.entity.Category;
 import com.github.amanguss.shopping_list_application.entity.Item;
 import com.github.amanguss.shopping_list_application.entity.ShoppingList;
 import com.github.amanguss.shopping_list_application.entity.enums.PriorityLevel;
+import com.github.amanguss.shopping_list_application.exception.ConflictException;
 import com.github.amanguss.shopping_list_application.exception.ResourceNotFoundException;
+import com.github.amanguss.shopping_list_application.exception.ValidationException;
 import com.github.amanguss.shopping_list_application.repository.CategoryRepository;
 import com.github.amanguss.shopping_list_application.repository.ItemRepository;
 import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
 import com.github.amanguss.shopping_list_application.service.ItemService;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ItemServiceImpl implements ItemService {
 
+    private static final int DELETE_BATCH_SIZE = 1000;
+
     private final ItemRepository itemRepository;
     private final ShoppingListRepository shoppingListRepository;
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BudgetThresholdEvaluator budgetThresholds;
+    private final SpendRollupRecorder spendRollups;
 
     @Override
     @Transactional
@@ -38,21 +62,9 @@ public class ItemServiceImpl implements ItemService {
         Category category = categoryRepository.findById(dto.getCategoryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
 
-        Item item = new Item();
-        item.setName(dto.getName());
-        item.setDescription(dto.getDescription());
-        item.setQuantity(dto.getQuantity() != null ? dto.getQuantity() : 1.0);
-        item.setUnitOfMeasure(dto.getUnitOfMeasure());
-        item.setEstimatedPrice(dto.getEstimatedPrice());
-        item.setPriority(dto.getPriority() != null ? dto.getPriority() : PriorityLevel.MEDIUM);
-        item.setNotes(dto.getNotes());
-        item.setIsPurchased(false);
-        item.setAddedDate(LocalDateTime.now());
-        item.setShoppingList(shoppingList);
-        item.setCategory(category);
-
-        Item saved = itemRepository.save(item);
-        return mapToResponseDto(saved);
+        Item saved = itemRepository.save(newItem(dto, shoppingList, category));
+        applyTotalsDelta(shoppingList.getId(), ItemTotals.NONE, ItemTotals.of(saved));
+        return publishUpserted(mapToResponseDto(saved));
     }
 
     @Override
@@ -122,15 +134,59 @@ public class ItemServiceImpl implements ItemService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPageResponseDto<ItemResponseDto> getItemPageByShoppingList(Integer shoppingListId, String cursor, Integer size) {
+        ShoppingList shoppingList = shoppingListRepository.findById(shoppingListId)
+                .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
+
+        KeysetPage.Cursor after = KeysetPage.decode(cursor);
+        int pageSize = KeysetPage.size(size);
+        List<Item> rows = itemRepository.findPageByShoppingList(shoppingList, after.date(), after.id(), KeysetPage.limit(pageSize));
+        return toItemPage(rows, pageSize);
+    }
+
+    @Override
+    public CursorPageResponseDto<ItemResponseDto> getPurchasedItemPageByShoppingList(Integer shoppingListId, String cursor, Integer size) {
+        return getItemPageByShoppingListAndStatus(shoppingListId, true, cursor, size);
+    }
+
+    @Override
+    public CursorPageResponseDto<ItemResponseDto> getUnpurchasedItemPageByShoppingList(Integer shoppingListId, String cursor, Integer size) {
+        return getItemPageByShoppingListAndStatus(shoppingListId, false, cursor, size);
+    }
+
+    @Override
+    public CursorPageResponseDto<ItemResponseDto> getItemPageByCategory(Integer categoryId, String cursor, Integer size) {
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
+
+        KeysetPage.Cursor after = KeysetPage.decode(cursor);
+        int pageSize = KeysetPage.size(size);
+        List<Item> rows = itemRepository.findPageByCategory(category, after.date(), after.id(), KeysetPage.limit(pageSize));
+        return toItemPage(rows, pageSize);
+    }
+
+    @Override
+    public CursorPageResponseDto<ItemResponseDto> getItemPageByPriority(PriorityLevel priority, String cursor, Integer size) {
+        KeysetPage.Cursor after = KeysetPage.decode(cursor);
+        int pageSize = KeysetPage.size(size);
+        List<Item> rows = itemRepository.findPageByPriority(priority, after.date(), after.id(), KeysetPage.limit(pageSize));
+        return toItemPage(rows, pageSize);
+    }
+
     @Override
     @Transactional
+    @RetryOnConflict
     public ItemResponseDto updateItem(Integer id, ItemCreateDto dto) {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Item not found"));
+        checkVersion(item, dto.getVersion());
 
         Category category = categoryRepository.findById(dto.getCategoryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
 
+        ItemTotals before = ItemTotals.of(item);
+        List<PurchaseSpendDto> purchasedBefore = spendRollups.capture(List.of(item));
         item.setName(dto.getName());
         if (dto.getDescription() != null) item.setDescription(dto.getDescription());
         if (dto.getQuantity() != null) item.setQuantity(dto.getQuantity());
@@ -141,65 +197,204 @@ public class ItemServiceImpl implements ItemService {
         item.setCategory(category);
 
         Item saved = itemRepository.save(item);
-        return mapToResponseDto(saved);
+        itemRepository.flush();
+        applyTotalsDelta(saved.getShoppingList().getId(), before, ItemTotals.of(saved));
+        spendRollups.apply(purchasedBefore, spendRollups.capture(List.of(saved)));
+        return publishUpserted(mapToResponseDto(saved));
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
     public ItemResponseDto markAsPurchased(Integer id, Double actualPrice) {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Item not found"));
 
+        ItemTotals before = ItemTotals.of(item);
+        List<PurchaseSpendDto> purchasedBefore = spendRollups.capture(List.of(item));
         item.setIsPurchased(true);
         item.setActualPrice(actualPrice);
         item.setPurchasedDate(LocalDateTime.now());
 
         Item saved = itemRepository.save(item);
-        return mapToResponseDto(saved);
+        itemRepository.flush();
+        applyTotalsDelta(saved.getShoppingList().getId(), before, ItemTotals.of(saved));
+        spendRollups.apply(purchasedBefore, spendRollups.capture(List.of(saved)));
+        return publishUpserted(mapToResponseDto(saved));
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
     public ItemResponseDto markAsUnpurchased(Integer id) {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Item not found"));
 
+        ItemTotals before = ItemTotals.of(item);
+        List<PurchaseSpendDto> purchasedBefore = spendRollups.capture(List.of(item));
         item.setIsPurchased(false);
         item.setActualPrice(null);
         item.setPurchasedDate(null);
 
         Item saved = itemRepository.save(item);
-        return mapToResponseDto(saved);
+        itemRepository.flush();
+        applyTotalsDelta(saved.getShoppingList().getId(), before, ItemTotals.of(saved));
+        spendRollups.apply(purchasedBefore, spendRollups.capture(List.of(saved)));
+        return publishUpserted(mapToResponseDto(saved));
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
     public ItemResponseDto updateItemPriority(Integer id, PriorityLevel priority) {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Item not found"));
 
         item.setPriority(priority);
         Item saved = itemRepository.save(item);
-        return mapToResponseDto(saved);
+        itemRepository.flush();
+        shoppingListRepository.bumpContentVersion(List.of(saved.getShoppingList().getId()));
+        return publishUpserted(mapToResponseDto(saved));
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
     public void deleteItem(Integer id) {
-        if (!itemRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Item not found");
+        Item item = itemRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Item not found"));
+
+        List<PurchaseSpendDto> purchasedBefore = spendRollups.capture(List.of(item));
+        itemRepository.delete(item);
+        applyTotalsDelta(item.getShoppingList().getId(), ItemTotals.of(item), ItemTotals.NONE);
+        spendRollups.apply(purchasedBefore, List.of());
+        publishDeleted(item.getShoppingList().getId(), List.of(item.getId()));
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllPurchasedItems(Integer shoppingListId) {
+        ShoppingList shoppingList = shoppingListRepository.findById(shoppingListId)
+                .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
+
+        int deleted = 0;
+        List<Integer> deletedIds = new ArrayList<>();
+        List<Integer> purchasedIds;
+        do {
+            purchasedIds = itemRepository.findPurchasedItemIds(shoppingList, PageRequest.of(0, DELETE_BATCH_SIZE));
+            if (!purchasedIds.isEmpty()) {
+                spendRollups.removePurchasedItems(purchasedIds);
+                deleted += itemRepository.deletePurchasedItems(purchasedIds);
+                deletedIds.addAll(purchasedIds);
+            }
+        } while (purchasedIds.size() == DELETE_BATCH_SIZE);
+
+        if (deleted > 0) {
+            shoppingListRepository.recalculateTotals(shoppingList.getId());
+            budgetThresholds.evaluate(shoppingList.getId());
+            spendRollups.invalidate(shoppingList.getId());
+            publishDeleted(shoppingList.getId(), deletedIds);
         }
-        itemRepository.deleteById(id);
+        return deleted;
     }
 
     @Override
     @Transactional
-    public void deleteAllPurchasedItems(Integer shoppingListId) {
+    public List<ItemResponseDto> createItems(Integer shoppingListId, List<ItemCreateDto> dtos) {
         ShoppingList shoppingList = shoppingListRepository.findById(shoppingListId)
                 .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
 
-        List<Item> purchasedItems = itemRepository.findByShoppingListAndIsPurchasedOrderByAddedDateDesc(shoppingList, true);
-        itemRepository.deleteAll(purchasedItems);
+        Set<Integer> categoryIds = dtos.stream()
+                .map(ItemCreateDto::getCategoryId)
+                .collect(Collectors.toSet());
+        Map<Integer, Category> categories = categoryRepository.findAllById(categoryIds)
+                .stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        if (categories.size() != categoryIds.size()) {
+            throw new ResourceNotFoundException("Category not found");
+        }
+
+        List<Item> items = dtos.stream()
+                .map(dto -> newItem(dto, shoppingList, categories.get(dto.getCategoryId())))
+                .collect(Collectors.toList());
+
+        List<Item> saved = itemRepository.saveAll(items);
+        applyTotalsDeltas(Map.of(), totalsByShoppingList(saved));
+        return publishUpserted(saved.stream()
+                .map(this::mapToResponseDto)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    @Transactional
+    @RetryOnConflict
+    public List<ItemResponseDto> markItemsAsPurchased(List<ItemPurchaseDto> purchases) {
+        Map<Integer, Double> actualPrices = purchases.stream()
+                .collect(Collectors.toMap(ItemPurchaseDto::getItemId, ItemPurchaseDto::getActualPrice,
+                        (first, second) -> second, LinkedHashMap::new));
+        List<Item> items = findAllItems(actualPrices.keySet());
+        Map<Integer, ItemTotals> before = totalsByShoppingList(items);
+        List<PurchaseSpendDto> purchasedBefore = spendRollups.capture(items);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Item item : items) {
+            item.setIsPurchased(true);
+            item.setActualPrice(actualPrices.get(item.getId()));
+            item.setPurchasedDate(now);
+        }
+
+        return saveAndMap(items, before, purchasedBefore);
+    }
+
+    @Override
+    @Transactional
+    @RetryOnConflict
+    public List<ItemResponseDto> markItemsAsUnpurchased(List<Integer> ids) {
+        List<Item> items = findAllItems(ids);
+        Map<Integer, ItemTotals> before = totalsByShoppingList(items);
+        List<PurchaseSpendDto> purchasedBefore = spendRollups.capture(items);
+
+        for (Item item : items) {
+            item.setIsPurchased(false);
+            item.setActualPrice(null);
+            item.setPurchasedDate(null);
+        }
+
+        return saveAndMap(items, before, purchasedBefore);
+    }
+
+    @Override
+    @Transactional
+    @RetryOnConflict
+    public List<ItemResponseDto> updateItemsPriority(List<Integer> ids, PriorityLevel priority) {
+        if (priority == null) {
+            throw new ValidationException("Priority is required");
+        }
+
+        List<Item> items = findAllItems(ids);
+        items.forEach(item -> item.setPriority(priority));
+        List<Item> saved = itemRepository.saveAll(inLockOrder(items));
+        itemRepository.flush();
+        shoppingListRepository.bumpContentVersion(new TreeSet<>(totalsByShoppingList(saved).keySet()));
+        return publishUpserted(items.stream()
+                .map(this::mapToResponseDto)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    @Transactional
+    public void deleteItems(List<Integer> ids) {
+        List<Item> items = findAllItems(ids);
+        Map<Integer, ItemTotals> before = totalsByShoppingList(items);
+        List<PurchaseSpendDto> purchasedBefore = spendRollups.capture(items);
+
+        itemRepository.deleteAllInBatch(inLockOrder(items));
+        applyTotalsDeltas(before, Map.of());
+        spendRollups.apply(purchasedBefore, List.of());
+        items.stream()
+                .collect(Collectors.groupingBy(item -> item.getShoppingList().getId(),
+                        Collectors.mapping(Item::getId, Collectors.toList())))
+                .forEach(this::publishDeleted);
     }
 
     @Override
@@ -207,8 +402,7 @@ public class ItemServiceImpl implements ItemService {
         ShoppingList shoppingList = shoppingListRepository.findById(shoppingListId)
                 .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
 
-        Double total = itemRepository.calculateTotalSpentByShoppingList(shoppingList);
-        return total != null ? total : 0.0;
+        return shoppingList.getSpentTotal();
     }
 
     @Override
@@ -216,8 +410,143 @@ public class ItemServiceImpl implements ItemService {
         ShoppingList shoppingList = shoppingListRepository.findById(shoppingListId)
                 .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
 
-        Double total = itemRepository.calculateEstimatedTotalByShoppingList(shoppingList);
-        return total != null ? total : 0.0;
+        return shoppingList.getEstimatedTotal();
+    }
+
+    private CursorPageResponseDto<ItemResponseDto> getItemPageByShoppingListAndStatus(Integer shoppingListId, Boolean isPurchased,
+                                                                                  String cursor, Integer size) {
+        ShoppingList shoppingList = shoppingListRepository.findById(shoppingListId)
+                .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
+
+        KeysetPage.Cursor after = KeysetPage.decode(cursor);
+        int pageSize = KeysetPage.size(size);
+        List<Item> rows = itemRepository.findPageByShoppingListAndIsPurchased(shoppingList, isPurchased,
+                after.date(), after.id(), KeysetPage.limit(pageSize));
+        return toItemPage(rows, pageSize);
+    }
+
+    private CursorPageResponseDto<ItemResponseDto> toItemPage(List<Item> rows, int pageSize) {
+        return KeysetPage.toPage(rows, pageSize, this::mapToResponseDto,
+                item -> KeysetPage.encode(item.getAddedDate(), item.getId()));
+    }
+
+    private Item newItem(ItemCreateDto dto, ShoppingList shoppingList, Category category) {
+        Item item = new Item();
+        item.setName(dto.getName());
+        item.setDescription(dto.getDescription());
+        item.setQuantity(dto.getQuantity() != null ? dto.getQuantity() : 1.0);
+        item.setUnitOfMeasure(dto.getUnitOfMeasure());
+        item.setEstimatedPrice(dto.getEstimatedPrice());
+        item.setPriority(dto.getPriority() != null ? dto.getPriority() : PriorityLevel.MEDIUM);
+        item.setNotes(dto.getNotes());
+        item.setIsPurchased(false);
+        item.setAddedDate(LocalDateTime.now());
+        item.setShoppingList(shoppingList);
+        item.setCategory(category);
+        return item;
+    }
+
+    private List<Item> findAllItems(Collection<Integer> ids) {
+        Set<Integer> uniqueIds = new LinkedHashSet<>(ids);
+        Map<Integer, Item> items = itemRepository.findAllWithCategoryByIdIn(uniqueIds)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        if (items.size() != uniqueIds.size()) {
+            throw new ResourceNotFoundException("Item not found");
+        }
+
+        return uniqueIds.stream()
+                .map(items::get)
+                .collect(Collectors.toList());
+    }
+
+    private List<ItemResponseDto> saveAndMap(List<Item> items, Map<Integer, ItemTotals> before,
+                                             List<PurchaseSpendDto> purchasedBefore) {
+        List<Item> saved = itemRepository.saveAll(inLockOrder(items));
+        itemRepository.flush();
+        applyTotalsDeltas(before, totalsByShoppingList(saved));
+        spendRollups.apply(purchasedBefore, spendRollups.capture(saved));
+        return publishUpserted(items.stream()
+                .map(this::mapToResponseDto)
+                .collect(Collectors.toList()));
+    }
+
+    private List<Item> inLockOrder(List<Item> items) {
+        return items.stream()
+                .sorted(Comparator.comparing(Item::getId))
+                .collect(Collectors.toList());
+    }
+
+    private ItemResponseDto publishUpserted(ItemResponseDto item) {
+        publishUpserted(List.of(item));
+        return item;
+    }
+
+    private List<ItemResponseDto> publishUpserted(List<ItemResponseDto> items) {
+        items.stream()
+                .collect(Collectors.groupingBy(ItemResponseDto::getShoppingListId, LinkedHashMap::new, Collectors.toList()))
+                .forEach((shoppingListId, upserted) -> eventPublisher.publishEvent(
+                        new ItemDeltaDto(shoppingListId, upserted, List.of())));
+        return items;
+    }
+
+    private void publishDeleted(Integer shoppingListId, List<Integer> itemIds) {
+        eventPublisher.publishEvent(new ItemDeltaDto(shoppingListId, List.of(), List.copyOf(itemIds)));
+    }
+
+    private void checkVersion(Item item, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(item.getVersion())) {
+            throw new ConflictException("Item was modified by another user", mapToResponseDto(item));
+        }
+    }
+
+    private Map<Integer, ItemTotals> totalsByShoppingList(List<Item> items) {
+        return items.stream()
+                .collect(Collectors.groupingBy(item -> item.getShoppingList().getId(),
+                        Collectors.reducing(ItemTotals.NONE, ItemTotals::of, ItemTotals::add)));
+    }
+
+    private void applyTotalsDeltas(Map<Integer, ItemTotals> before, Map<Integer, ItemTotals> after) {
+        Set<Integer> shoppingListIds = new TreeSet<>(before.keySet());
+        shoppingListIds.addAll(after.keySet());
+        for (Integer shoppingListId : shoppingListIds) {
+            applyTotalsDelta(shoppingListId,
+                    before.getOrDefault(shoppingListId, ItemTotals.NONE),
+                    after.getOrDefault(shoppingListId, ItemTotals.NONE));
+        }
+    }
+
+    private void applyTotalsDelta(Integer shoppingListId, ItemTotals before, ItemTotals after) {
+        if (before.equals(after)) {
+            shoppingListRepository.bumpContentVersion(List.of(shoppingListId));
+            return;
+        }
+        shoppingListRepository.adjustTotals(shoppingListId,
+                after.items() - before.items(),
+                after.purchased() - before.purchased(),
+                after.estimated() - before.estimated(),
+                after.spent() - before.spent());
+        if (after.spent() != before.spent()) {
+            budgetThresholds.evaluate(shoppingListId);
+        }
+    }
+
+    private record ItemTotals(int items, int purchased, double estimated, double spent) {
+
+        static final ItemTotals NONE = new ItemTotals(0, 0, 0.0, 0.0);
+
+        static ItemTotals of(Item item) {
+            boolean purchased = Boolean.TRUE.equals(item.getIsPurchased());
+            double quantity = item.getQuantity() != null ? item.getQuantity() : 0.0;
+            double estimated = item.getEstimatedPrice() != null ? item.getEstimatedPrice() * quantity : 0.0;
+            double spent = purchased && item.getActualPrice() != null ? item.getActualPrice() * quantity : 0.0;
+            return new ItemTotals(1, purchased ? 1 : 0, estimated, spent);
+        }
+
+        ItemTotals add(ItemTotals other) {
+            return new ItemTotals(items + other.items, purchased + other.purchased,
+                    estimated + other.estimated, spent + other.spent);
+        }
     }
 
     private ItemResponseDto mapToResponseDto(Item item) {
@@ -236,7 +565,8 @@ public class ItemServiceImpl implements ItemService {
                 item.getNotes(),
                 item.getCategory() != null ? item.getCategory().getName() : null,
                 item.getCategory() != null ? item.getCategory().getId() : null,
-                item.getShoppingList().getId()
+                item.getShoppingList().getId(),
+                item.getVersion()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.github.amanguss.shopping_list_application.service.impl;
+
+import com.github.amanguss.shopping_list_application.dto.page.CursorPageResponseDto;
+import com.github.amanguss.shopping_list_application.exception.ValidationException;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+final class KeysetPage {
+
+    static final int DEFAULT_SIZE = 20;
+    static final int MAX_SIZE = 100;
+
+    private static final Cursor FIRST = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Integer.MAX_VALUE);
+
+    private KeysetPage() {
+    }
+
+    record Cursor(LocalDateTime date, Integer id) {
+    }
+
+    static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            return new Cursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Integer.valueOf(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid page cursor", e);
+        }
+    }
+
+    static String encode(LocalDateTime date, Integer id) {
+        String raw = date + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static int size(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_SIZE;
+        }
+        if (requested < 1) {
+            throw new ValidationException("Page size must be positive");
+        }
+        return Math.min(requested, MAX_SIZE);
+    }
+
+    static Pageable limit(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    static <E, T> CursorPageResponseDto<T> toPage(List<E> rows, int size,
+                                                  Function<E, T> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+
+        return new CursorPageResponseDto<>(
+                page.stream().map(mapper).collect(Collectors.toList()),
+                page.size(),
+                nextCursor,
+                hasNext
+        );
+    }
+}
@@ -3,6 +3,7 @@ package com.github.amanguss.shopping_list_application.service.impl;
 import com.github.amanguss.shopping_list_application.dto.listShare.ListShareCreateDto;
 import com.github.amanguss.shopping_list_application.dto.listShare.ListShareResponseDto;
 import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListResponseDto;
+import com.github.amanguss.shopping_list_application.dto.sync.ShareRevokedDto;
 import com.github.amanguss.shopping_list_application.entity.ListShare;
 import com.github.amanguss.shopping_list_application.entity.ShoppingList;
 import com.github.amanguss.shopping_list_application.entity.User;
@@ -14,9 +15,12 @@ import com.github.amanguss.shopping_list_application.repository.ShoppingListRepo
 import com.github.amanguss.shopping_list_application.repository.UserRepository;
 import com.github.amanguss.shopping_list_application.service.ListShareService;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
@@ -25,11 +29,15 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ListShareServiceImpl implements ListShareService {
 
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
     private final ListShareRepository listShareRepository;
     private final ShoppingListRepository shoppingListRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -79,7 +87,7 @@ public class ListShareServiceImpl implements ListShareService {
 
     @Override
     public ListShareResponseDto getShareById(Integer id) {
-        ListShare listShare = listShareRepository.findById(id)
+        ListShare listShare = listShareRepository.findDetailedById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Share not found"));
         return mapToResponseDto(listShare);
     }
@@ -128,7 +136,7 @@ public class ListShareServiceImpl implements ListShareService {
     @Override
     @Transactional
     public ListShareResponseDto updateSharePermission(Integer shareId, Permission permission) {
-        ListShare listShare = listShareRepository.findById(shareId)
+        ListShare listShare = listShareRepository.findDetailedById(shareId)
                 .orElseThrow(() -> new ResourceNotFoundException("Share not found"));
 
         listShare.setPermission(permission);
@@ -143,6 +151,7 @@ public class ListShareServiceImpl implements ListShareService {
                 .orElseThrow(() -> new ResourceNotFoundException("Share not found"));
 
         listShareRepository.delete(listShare);
+        publishRevoked(listShare);
     }
 
     @Override
@@ -154,6 +163,7 @@ public class ListShareServiceImpl implements ListShareService {
         listShare.setExpirationDate(LocalDateTime.now());
         listShare.setIsActive(false);
         listShareRepository.save(listShare);
+        publishRevoked(listShare);
     }
 
     @Override
@@ -185,15 +195,22 @@ public class ListShareServiceImpl implements ListShareService {
     }
 
     @Override
-    @Transactional
-    public void cleanupExpiredShares() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int cleanupExpiredShares() {
         LocalDateTime now = LocalDateTime.now();
-        List<ListShare> expiredShares = listShareRepository.findByExpirationDateBeforeAndIsActiveTrue(now);
-        
-        expiredShares.forEach(share -> {
-            share.setIsActive(false);
-            listShareRepository.save(share);
-        });
+        int deactivated = 0;
+        List<Integer> expiredIds;
+
+        do {
+            expiredIds = listShareRepository.findExpiredShareIds(now, PageRequest.of(0, CLEANUP_BATCH_SIZE));
+            if (!expiredIds.isEmpty()) {
+                deactivated += listShareRepository.deactivateShares(expiredIds);
+                listShareRepository.findAccessByIdIn(expiredIds).forEach(access -> eventPublisher.publishEvent(
+                        new ShareRevokedDto(access.getShoppingListId(), access.getSharedToId())));
+            }
+        } while (expiredIds.size() == CLEANUP_BATCH_SIZE);
+
+        return deactivated;
     }
 
     @Override
@@ -201,11 +218,10 @@ public class ListShareServiceImpl implements ListShareService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        List<ListShare> activeShares = listShareRepository.findBySharedToAndIsActiveTrueOrderBySharedDateDesc(user);
-        
-        return activeShares.stream()
-                .map(share -> {
-                    ShoppingList shoppingList = share.getShoppingList();
+        return shoppingListRepository.findSharedSummaries(user)
+                .stream()
+                .map(summary -> {
+                    ShoppingList shoppingList = summary.getShoppingList();
                     return ShoppingListResponseDto.builder()
                             .id(shoppingList.getId())
                             .name(shoppingList.getName())
@@ -217,13 +233,17 @@ public class ListShareServiceImpl implements ListShareService {
                             .priority(shoppingList.getPriority())
                             .ownerName(shoppingList.getOwner().getFirstName() + " " + shoppingList.getOwner().getLastName())
                             .ownerId(shoppingList.getOwner().getId())
-                            .totalItems(shoppingListRepository.countItemsByShoppingList(shoppingList))
-                            .purchasedItems(shoppingListRepository.countPurchasedItemsByShoppingList(shoppingList))
+                            .totalItems(summary.getTotalItems())
+                            .purchasedItems(summary.getPurchasedItems())
                             .build();
                 })
                 .collect(Collectors.toList());
     }
 
+    private void publishRevoked(ListShare listShare) {
+        eventPublisher.publishEvent(new ShareRevokedDto(listShare.getShoppingList().getId(), listShare.getSharedTo().getId()));
+    }
+
     private ListShareResponseDto mapToResponseDto(ListShare listShare) {
         return new ListShareResponseDto(
                 listShare.getId(),
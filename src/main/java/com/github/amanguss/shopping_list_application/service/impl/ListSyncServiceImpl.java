@@ -0,0 +1,133 @@
+package com.github.amanguss.shopping_list_application.service.impl;
+
+import com.github.amanguss.shopping_list_application.config.ListChangeLogProperties;
+import com.github.amanguss.shopping_list_application.dto.sync.ListChangeDto;
+import com.github.amanguss.shopping_list_application.dto.sync.ListChangesDto;
+import com.github.amanguss.shopping_list_application.entity.ListChange;
+import com.github.amanguss.shopping_list_application.entity.ShoppingList;
+import com.github.amanguss.shopping_list_application.entity.User;
+import com.github.amanguss.shopping_list_application.exception.ResourceNotFoundException;
+import com.github.amanguss.shopping_list_application.repository.ListChangeRepository;
+import com.github.amanguss.shopping_list_application.repository.ListShareRepository;
+import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
+import com.github.amanguss.shopping_list_application.repository.UserRepository;
+import com.github.amanguss.shopping_list_application.repository.projection.ShoppingListVersion;
+import com.github.amanguss.shopping_list_application.service.ItemService;
+import com.github.amanguss.shopping_list_application.service.ListSyncService;
+import com.github.amanguss.shopping_list_application.service.ShoppingListService;
+import com.github.amanguss.shopping_list_application.sync.ListSubscriptionRegistry;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ListSyncServiceImpl implements ListSyncService {
+
+    private final ShoppingListRepository shoppingListRepository;
+    private final UserRepository userRepository;
+    private final ListShareRepository listShareRepository;
+    private final ListChangeRepository listChangeRepository;
+    private final ShoppingListService shoppingListService;
+    private final ItemService itemService;
+    private final ListSubscriptionRegistry listSubscriptionRegistry;
+    private final ListChangeLogProperties changeLogProperties;
+
+    @Override
+    public boolean canSubscribe(Integer shoppingListId, Integer userId) {
+        ShoppingList shoppingList = shoppingListRepository.findById(shoppingListId)
+                .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
+        if (shoppingList.getOwner().getId().equals(userId)) {
+            return true;
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return listShareRepository.hasAccess(shoppingList, user);
+    }
+
+    @Override
+    public SseEmitter subscribe(Integer shoppingListId, Integer userId) {
+        return listSubscriptionRegistry.subscribe(shoppingListId, userId);
+    }
+
+    @Override
+    public ListChangesDto getChanges(Integer shoppingListId, Long since) {
+        if (since == null) {
+            return snapshot(shoppingListId);
+        }
+
+        int maxChanges = changeLogProperties.maxChanges();
+        List<ListChange> rows = listChangeRepository.findByShoppingListIdAndVersionGreaterThanOrderByVersionAscIdAsc(
+                shoppingListId, since, PageRequest.of(0, maxChanges + 1));
+        ShoppingListVersion current = findVersion(shoppingListId);
+        if (since < current.getCompactedVersion() || since > current.getContentVersion() || rows.size() > maxChanges) {
+            return snapshot(shoppingListId);
+        }
+
+        Map<Integer, ListChange> latest = new LinkedHashMap<>();
+        for (ListChange row : rows) {
+            latest.remove(row.getItemId());
+            latest.put(row.getItemId(), row);
+        }
+
+        return ListChangesDto.builder()
+                .shoppingListId(shoppingListId)
+                .version(rows.isEmpty() ? since : rows.get(rows.size() - 1).getVersion())
+                .snapshot(false)
+                .changes(latest.values().stream()
+                        .map(this::mapToChangeDto)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int compactSupersededChanges(int batchSize) {
+        return listChangeRepository.deleteSupersededChanges(batchSize);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int truncateChanges(LocalDateTime cutoffTime, int batchSize) {
+        return listChangeRepository.truncateChangesBefore(cutoffTime, batchSize);
+    }
+
+    private ListChangesDto snapshot(Integer shoppingListId) {
+        ShoppingListVersion current = findVersion(shoppingListId);
+        return ListChangesDto.builder()
+                .shoppingListId(shoppingListId)
+                .version(current.getContentVersion())
+                .snapshot(true)
+                .shoppingList(shoppingListService.getShoppingListById(shoppingListId))
+                .items(itemService.getItemsByShoppingList(shoppingListId))
+                .changes(List.of())
+                .build();
+    }
+
+    private ShoppingListVersion findVersion(Integer shoppingListId) {
+        return shoppingListRepository.findVersionById(shoppingListId)
+                .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
+    }
+
+    private ListChangeDto mapToChangeDto(ListChange change) {
+        return new ListChangeDto(
+                change.getVersion(),
+                change.getOperation(),
+                change.getItemId(),
+                change.getPayload()
+        );
+    }
+}
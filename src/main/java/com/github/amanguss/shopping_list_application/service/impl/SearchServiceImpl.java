@@ -0,0 +1,85 @@
+package com.github.amanguss.shopping_list_application.service.impl;
+
+import com.github.amanguss.shopping_list_application.dto.search.SearchResponseDto;
+import com.github.amanguss.shopping_list_application.dto.search.SearchResultDto;
+import com.github.amanguss.shopping_list_application.exception.ResourceNotFoundException;
+import com.github.amanguss.shopping_list_application.exception.ValidationException;
+import com.github.amanguss.shopping_list_application.repository.ItemRepository;
+import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
+import com.github.amanguss.shopping_list_application.repository.UserRepository;
+import com.github.amanguss.shopping_list_application.repository.projection.SearchMatch;
+import com.github.amanguss.shopping_list_application.service.SearchService;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchServiceImpl implements SearchService {
+
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+
+    private final ShoppingListRepository shoppingListRepository;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    public SearchResponseDto search(Integer userId, String query, Integer limit) {
+        String normalized = normalize(query);
+        int size = limit(limit);
+
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found");
+        }
+
+        return new SearchResponseDto(
+                normalized,
+                toResults("SHOPPING_LIST", shoppingListRepository.searchAccessible(userId, normalized, size)),
+                toResults("ITEM", itemRepository.searchAccessible(userId, normalized, size))
+        );
+    }
+
+    @Override
+    public List<SearchResultDto> searchUsers(String query, Integer limit) {
+        return toResults("USER", userRepository.searchByName(normalize(query), limit(limit)));
+    }
+
+    private String normalize(String query) {
+        String normalized = query == null ? "" : query.trim();
+        if (normalized.length() < MIN_QUERY_LENGTH) {
+            throw new ValidationException("Search query must be at least " + MIN_QUERY_LENGTH + " characters");
+        }
+        return normalized;
+    }
+
+    private int limit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new ValidationException("Search limit must be positive");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    private List<SearchResultDto> toResults(String type, List<SearchMatch> matches) {
+        return matches.stream()
+                .map(match -> new SearchResultDto(
+                        type,
+                        match.getId(),
+                        match.getTitle(),
+                        match.getDetail(),
+                        match.getListId(),
+                        match.getScore()
+                ))
+                .collect(Collectors.toList());
+    }
+}
@@ -1,32 +1,51 @@
 package com.github.amanguss.shopping_list_application.service.impl;
 
+import com.github.amanguss.shopping_list_application.concurrency.RetryOnConflict;
+import com.github.amanguss.shopping_list_application.dto.page.CursorPageResponseDto;
 import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListCreateDto;
 import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListResponseDto;
+import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListVersionDto;
+import com.github.amanguss.shopping_list_application.dto.sync.ShoppingListDeletedDto;
 import com.github.amanguss.shopping_list_application.entity.ShoppingList;
 import com.github.amanguss.shopping_list_application.entity.User;
 import com.github.amanguss.shopping_list_application.entity.enums.ListStatus;
 import com.github.amanguss.shopping_list_application.entity.enums.PriorityLevel;
+import com.github.amanguss.shopping_list_application.exception.ConflictException;
 import com.github.amanguss.shopping_list_application.exception.ResourceNotFoundException;
 import com.github.amanguss.shopping_list_application.exception.ValidationException;
 import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
 import com.github.amanguss.shopping_list_application.repository.UserRepository;
+import com.github.amanguss.shopping_list_application.repository.projection.ShoppingListSummary;
+import com.github.amanguss.shopping_list_application.repository.projection.ShoppingListTotals;
+import com.github.amanguss.shopping_list_application.repository.projection.ShoppingListVersion;
 import com.github.amanguss.shopping_list_application.service.ShoppingListService;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ShoppingListServiceImpl implements ShoppingListService {
 
+    private static final int RECONCILE_BATCH_SIZE = 500;
+    private static final double TOTALS_TOLERANCE = 0.005;
+
     private final ShoppingListRepository shoppingListRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SpendRollupRecorder spendRollups;
 
     @Override
     @Transactional
@@ -54,9 +73,20 @@ public class ShoppingListServiceImpl implements ShoppingListService {
 
     @Override
     public ShoppingListResponseDto getShoppingListById(Integer id) {
-        ShoppingList shoppingList = shoppingListRepository.findById(id)
+        ShoppingListSummary summary = shoppingListRepository.findSummaryById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
-        return mapToResponseDto(shoppingList);
+        return mapToResponseDto(summary);
+    }
+
+    @Override
+    public ShoppingListVersionDto getShoppingListVersion(Integer id) {
+        ShoppingListVersion version = shoppingListRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
+        return ShoppingListVersionDto.builder()
+                .id(version.getListId())
+                .contentVersion(version.getContentVersion())
+                .lastModifiedDate(version.getLastModifiedDate())
+                .build();
     }
 
     @Override
@@ -64,7 +94,7 @@ public class ShoppingListServiceImpl implements ShoppingListService {
         User owner = userRepository.findById(ownerId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        return shoppingListRepository.findByOwnerOrderByCreationDateDesc(owner)
+        return shoppingListRepository.findSummariesByOwner(owner)
                 .stream()
                 .map(this::mapToResponseDto)
                 .collect(Collectors.toList());
@@ -75,7 +105,7 @@ public class ShoppingListServiceImpl implements ShoppingListService {
         User owner = userRepository.findById(ownerId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        return shoppingListRepository.findByOwnerAndStatusOrderByCreationDateDesc(owner, status)
+        return shoppingListRepository.findSummariesByOwnerAndStatus(owner, status)
                 .stream()
                 .map(this::mapToResponseDto)
                 .collect(Collectors.toList());
@@ -86,7 +116,7 @@ public class ShoppingListServiceImpl implements ShoppingListService {
         User owner = userRepository.findById(ownerId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        return shoppingListRepository.findByOwnerAndIsTemplateTrueOrderByCreationDateDesc(owner)
+        return shoppingListRepository.findTemplateSummariesByOwner(owner)
                 .stream()
                 .map(this::mapToResponseDto)
                 .collect(Collectors.toList());
@@ -97,7 +127,7 @@ public class ShoppingListServiceImpl implements ShoppingListService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        return shoppingListRepository.findAccessibleLists(user)
+        return shoppingListRepository.findAccessibleSummaries(user)
                 .stream()
                 .map(this::mapToResponseDto)
                 .collect(Collectors.toList());
@@ -108,17 +138,78 @@ public class ShoppingListServiceImpl implements ShoppingListService {
         User owner = userRepository.findById(ownerId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        return shoppingListRepository.findByOwnerAndNameContainingIgnoreCaseOrderByCreationDateDesc(owner, name)
+        return shoppingListRepository.findSummariesByOwnerAndName(owner, name)
                 .stream()
                 .map(this::mapToResponseDto)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPageResponseDto<ShoppingListResponseDto> getShoppingListPageByOwner(Integer ownerId, String cursor, Integer size) {
+        User owner = userRepository.findById(ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        KeysetPage.Cursor after = KeysetPage.decode(cursor);
+        int pageSize = KeysetPage.size(size);
+        return toSummaryPage(shoppingListRepository.findSummaryPageByOwner(owner,
+                after.date(), after.id(), KeysetPage.limit(pageSize)), pageSize);
+    }
+
+    @Override
+    public CursorPageResponseDto<ShoppingListResponseDto> getShoppingListPageByOwnerAndStatus(Integer ownerId, ListStatus status,
+                                                                                             String cursor, Integer size) {
+        User owner = userRepository.findById(ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        KeysetPage.Cursor after = KeysetPage.decode(cursor);
+        int pageSize = KeysetPage.size(size);
+        return toSummaryPage(shoppingListRepository.findSummaryPageByOwnerAndStatus(owner, status,
+                after.date(), after.id(), KeysetPage.limit(pageSize)), pageSize);
+    }
+
+    @Override
+    public CursorPageResponseDto<ShoppingListResponseDto> getTemplatePageByOwner(Integer ownerId, String cursor, Integer size) {
+        User owner = userRepository.findById(ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        KeysetPage.Cursor after = KeysetPage.decode(cursor);
+        int pageSize = KeysetPage.size(size);
+        return toSummaryPage(shoppingListRepository.findTemplateSummaryPageByOwner(owner,
+                after.date(), after.id(), KeysetPage.limit(pageSize)), pageSize);
+    }
+
+    @Override
+    public CursorPageResponseDto<ShoppingListResponseDto> getAccessibleListPage(Integer userId, String cursor, Integer size) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        KeysetPage.Cursor after = KeysetPage.decode(cursor);
+        int pageSize = KeysetPage.size(size);
+        return toSummaryPage(shoppingListRepository.findAccessibleSummaryPage(user,
+                after.date(), after.id(), KeysetPage.limit(pageSize)), pageSize);
+    }
+
+    @Override
+    public CursorPageResponseDto<ShoppingListResponseDto> searchShoppingListPageByName(Integer ownerId, String name,
+                                                                                      String cursor, Integer size) {
+        User owner = userRepository.findById(ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        KeysetPage.Cursor after = KeysetPage.decode(cursor);
+        int pageSize = KeysetPage.size(size);
+        return toSummaryPage(shoppingListRepository.findSummaryPageByOwnerAndName(owner, name,
+                after.date(), after.id(), KeysetPage.limit(pageSize)), pageSize);
+    }
+
     @Override
     @Transactional
+    @RetryOnConflict
     public ShoppingListResponseDto updateShoppingList(Integer id, ShoppingListCreateDto dto) {
         ShoppingList shoppingList = shoppingListRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
+        if (dto.getVersion() != null && !dto.getVersion().equals(shoppingList.getVersion())) {
+            throw new ConflictException("Shopping list was modified by another user", mapToResponseDto(shoppingList));
+        }
 
         if (!shoppingList.getName().equals(dto.getName()) &&
                 shoppingListRepository.existsByNameAndOwner(dto.getName(), shoppingList.getOwner())) {
@@ -132,11 +223,13 @@ public class ShoppingListServiceImpl implements ShoppingListService {
         if (dto.getPriority() != null) shoppingList.setPriority(dto.getPriority());
 
         ShoppingList saved = shoppingListRepository.save(shoppingList);
-        return mapToResponseDto(saved);
+        shoppingListRepository.incrementContentVersion(saved.getId());
+        return publishUpdated(mapToResponseDto(saved));
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
     public ShoppingListResponseDto updateShoppingListStatus(Integer id, ListStatus status) {
         ShoppingList shoppingList = shoppingListRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
@@ -145,11 +238,13 @@ public class ShoppingListServiceImpl implements ShoppingListService {
         shoppingList.setLastModifiedDate(LocalDateTime.now());
 
         ShoppingList saved = shoppingListRepository.save(shoppingList);
-        return mapToResponseDto(saved);
+        shoppingListRepository.incrementContentVersion(saved.getId());
+        return publishUpdated(mapToResponseDto(saved));
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
     public ShoppingListResponseDto updateShoppingListPriority(Integer id, PriorityLevel priority) {
         ShoppingList shoppingList = shoppingListRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
@@ -158,7 +253,8 @@ public class ShoppingListServiceImpl implements ShoppingListService {
         shoppingList.setLastModifiedDate(LocalDateTime.now());
 
         ShoppingList saved = shoppingListRepository.save(shoppingList);
-        return mapToResponseDto(saved);
+        shoppingListRepository.incrementContentVersion(saved.getId());
+        return publishUpdated(mapToResponseDto(saved));
     }
 
     @Override
@@ -167,7 +263,9 @@ public class ShoppingListServiceImpl implements ShoppingListService {
         if (!shoppingListRepository.existsById(id)) {
             throw new ResourceNotFoundException("Shopping list not found");
         }
+        spendRollups.removeShoppingList(id);
         shoppingListRepository.deleteById(id);
+        eventPublisher.publishEvent(new ShoppingListDeletedDto(id));
     }
 
     @Override
@@ -229,10 +327,68 @@ public class ShoppingListServiceImpl implements ShoppingListService {
         return shoppingListRepository.existsByNameAndOwner(name, owner);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reconcileItemTotals() {
+        int drifted = 0;
+        Integer afterId = 0;
+        List<ShoppingListTotals> batch;
+
+        do {
+            batch = shoppingListRepository.findTotalsPage(afterId, PageRequest.of(0, RECONCILE_BATCH_SIZE));
+            for (ShoppingListTotals totals : batch) {
+                if (hasDrift(totals)) {
+                    log.warn("Item totals drift on shopping list {}: stored [{} items, {} purchased, {} estimated, {} spent], " +
+                                    "actual [{} items, {} purchased, {} estimated, {} spent]",
+                            totals.getListId(),
+                            totals.getStoredItemCount(), totals.getStoredPurchasedCount(),
+                            totals.getStoredEstimatedTotal(), totals.getStoredSpentTotal(),
+                            totals.getItemCount(), totals.getPurchasedCount(),
+                            totals.getEstimatedTotal(), totals.getSpentTotal());
+                    shoppingListRepository.recalculateTotals(totals.getListId());
+                    drifted++;
+                }
+            }
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getListId();
+            }
+        } while (batch.size() == RECONCILE_BATCH_SIZE);
+
+        return drifted;
+    }
+
+    private ShoppingListResponseDto publishUpdated(ShoppingListResponseDto shoppingList) {
+        eventPublisher.publishEvent(shoppingList);
+        return shoppingList;
+    }
+
+    private boolean hasDrift(ShoppingListTotals totals) {
+        return totals.getStoredItemCount() == null
+                || totals.getStoredPurchasedCount() == null
+                || totals.getStoredEstimatedTotal() == null
+                || totals.getStoredSpentTotal() == null
+                || totals.getStoredItemCount() != totals.getItemCount().intValue()
+                || totals.getStoredPurchasedCount() != totals.getPurchasedCount().intValue()
+                || Math.abs(totals.getStoredEstimatedTotal() - totals.getEstimatedTotal()) > TOTALS_TOLERANCE
+                || Math.abs(totals.getStoredSpentTotal() - totals.getSpentTotal()) > TOTALS_TOLERANCE;
+    }
+
+    private CursorPageResponseDto<ShoppingListResponseDto> toSummaryPage(List<ShoppingListSummary> rows, int pageSize) {
+        return KeysetPage.toPage(rows, pageSize, this::mapToResponseDto,
+                summary -> KeysetPage.encode(summary.getShoppingList().getCreationDate(), summary.getShoppingList().getId()));
+    }
+
     private ShoppingListResponseDto mapToResponseDto(ShoppingList shoppingList) {
-        Integer totalItems = shoppingListRepository.countItemsByShoppingList(shoppingList);
-        Integer purchasedItems = shoppingListRepository.countPurchasedItemsByShoppingList(shoppingList);
+        return mapToResponseDto(shoppingList, shoppingList.getItemCount(), shoppingList.getPurchasedCount());
+    }
+
+    private ShoppingListResponseDto mapToResponseDto(ShoppingListSummary summary) {
+        return mapToResponseDto(summary.getShoppingList(),
+                summary.getTotalItems(),
+                summary.getPurchasedItems());
+    }
 
+    private ShoppingListResponseDto mapToResponseDto(ShoppingList shoppingList, Integer totalItems, Integer purchasedItems) {
         return ShoppingListResponseDto.builder()
                 .id(shoppingList.getId())
                 .name(shoppingList.getName())
@@ -246,6 +402,7 @@ public class ShoppingListServiceImpl implements ShoppingListService {
                 .ownerId(shoppingList.getOwner().getId())
                 .totalItems(totalItems)
                 .purchasedItems(purchasedItems)
+                .version(shoppingList.getVersion())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.github.amanguss.shopping_list_application.service.impl;
+
+import com.github.amanguss.shopping_list_application.dto.analytics.PurchaseSpendDto;
+import com.github.amanguss.shopping_list_application.dto.analytics.SpendDeltaDto;
+import com.github.amanguss.shopping_list_application.dto.analytics.SpendInvalidatedDto;
+import com.github.amanguss.shopping_list_application.entity.Item;
+import com.github.amanguss.shopping_list_application.entity.SpendRollupId;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupDimension;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupPeriod;
+import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
+import com.github.amanguss.shopping_list_application.repository.SpendRollupRepository;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+class SpendRollupRecorder {
+
+    private static final Comparator<SpendRollupId> LOCK_ORDER = Comparator
+            .comparing(SpendRollupId::getOwnerId)
+            .thenComparing(id -> id.getDimension().name())
+            .thenComparing(SpendRollupId::getDimensionId)
+            .thenComparing(id -> id.getPeriod().name())
+            .thenComparing(SpendRollupId::getBucketStart);
+
+    private final SpendRollupRepository spendRollupRepository;
+    private final ShoppingListRepository shoppingListRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    List<PurchaseSpendDto> capture(Collection<Item> items) {
+        return items.stream()
+                .filter(item -> Boolean.TRUE.equals(item.getIsPurchased())
+                        && item.getActualPrice() != null && item.getPurchasedDate() != null)
+                .map(this::toPurchase)
+                .collect(Collectors.toList());
+    }
+
+    void apply(List<PurchaseSpendDto> before, List<PurchaseSpendDto> after) {
+        if (before.equals(after)) {
+            return;
+        }
+
+        Map<SpendRollupId, Delta> deltas = new TreeMap<>(LOCK_ORDER);
+        before.forEach(purchase -> accumulate(deltas, purchase, -1));
+        after.forEach(purchase -> accumulate(deltas, purchase, 1));
+
+        deltas.forEach((id, delta) -> {
+            if (delta.count() != 0 || delta.spent() != 0.0) {
+                spendRollupRepository.addSpend(id.getOwnerId(), id.getDimension().name(), id.getDimensionId(),
+                        id.getPeriod().name(), id.getBucketStart(), delta.spent(), delta.count());
+            }
+        });
+        eventPublisher.publishEvent(new SpendDeltaDto(List.copyOf(before), List.copyOf(after),
+                spendRollupRepository.currentTransactionId()));
+    }
+
+    void removePurchasedItems(Collection<Integer> itemIds) {
+        if (!itemIds.isEmpty()) {
+            spendRollupRepository.subtractPurchasedItems(itemIds);
+        }
+    }
+
+    void removeShoppingList(Integer shoppingListId) {
+        spendRollupRepository.subtractShoppingList(shoppingListId);
+        invalidate(shoppingListId);
+    }
+
+    void invalidate(Integer shoppingListId) {
+        eventPublisher.publishEvent(new SpendInvalidatedDto(shoppingListId, spendRollupRepository.currentTransactionId()));
+    }
+
+    int rebuildOwner(Integer ownerId) {
+        shoppingListRepository.lockIdsByOwnerId(ownerId);
+        spendRollupRepository.deleteByOwner(ownerId);
+        return spendRollupRepository.rebuildForOwner(ownerId);
+    }
+
+    private PurchaseSpendDto toPurchase(Item item) {
+        double quantity = item.getQuantity() != null ? item.getQuantity() : 0.0;
+        double estimated = item.getEstimatedPrice() != null ? item.getEstimatedPrice() * quantity : 0.0;
+        return new PurchaseSpendDto(item.getShoppingList().getOwner().getId(), item.getShoppingList().getId(),
+                item.getCategory() != null ? item.getCategory().getId() : null,
+                item.getPurchasedDate().toLocalDate(), item.getActualPrice() * quantity, estimated);
+    }
+
+    private void accumulate(Map<SpendRollupId, Delta> deltas, PurchaseSpendDto purchase, int sign) {
+        accumulate(deltas, purchase, RollupDimension.LIST, purchase.getShoppingListId(), sign);
+        accumulate(deltas, purchase, RollupDimension.OWNER, purchase.getOwnerId(), sign);
+        if (purchase.getCategoryId() != null) {
+            accumulate(deltas, purchase, RollupDimension.CATEGORY, purchase.getCategoryId(), sign);
+        }
+    }
+
+    private void accumulate(Map<SpendRollupId, Delta> deltas, PurchaseSpendDto purchase, RollupDimension dimension,
+                            Integer dimensionId, int sign) {
+        for (RollupPeriod period : RollupPeriod.values()) {
+            SpendRollupId id = new SpendRollupId(purchase.getOwnerId(), dimension, dimensionId, period,
+                    period.bucketStart(purchase.getPurchasedOn()));
+            deltas.merge(id, new Delta(sign * purchase.getSpent(), sign), Delta::add);
+        }
+    }
+
+    private record Delta(double spent, int count) {
+
+        Delta add(Delta other) {
+            return new Delta(spent + other.spent, count + other.count);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.amanguss.shopping_list_application.service.impl;
+
+import com.github.amanguss.shopping_list_application.dto.spend.CategorySpendDto;
+import com.github.amanguss.shopping_list_application.dto.spend.SpendBucketDto;
+import com.github.amanguss.shopping_list_application.entity.SpendRollup;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupDimension;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupPeriod;
+import com.github.amanguss.shopping_list_application.exception.ValidationException;
+import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
+import com.github.amanguss.shopping_list_application.repository.SpendRollupRepository;
+import com.github.amanguss.shopping_list_application.service.SpendRollupService;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SpendRollupServiceImpl implements SpendRollupService {
+
+    private static final int DEFAULT_BUCKETS = 12;
+    private static final int MAX_BUCKETS = 366;
+
+    private final SpendRollupRepository spendRollupRepository;
+    private final ShoppingListRepository shoppingListRepository;
+    private final SpendRollupRecorder spendRollups;
+
+    @Override
+    public SpendBucketDto getSpend(Integer ownerId, RollupDimension dimension, Integer dimensionId, RollupPeriod period,
+                                   LocalDate date) {
+        LocalDate bucketStart = period.bucketStart(date != null ? date : LocalDate.now());
+        return spendRollupRepository.findByOwnerIdAndDimensionAndDimensionIdAndPeriodAndBucketStart(ownerId, dimension,
+                        dimensionId, period, bucketStart)
+                .map(this::mapToBucketDto)
+                .orElseGet(() -> emptyBucket(period, bucketStart));
+    }
+
+    @Override
+    public List<SpendBucketDto> getSpendHistory(Integer ownerId, RollupDimension dimension, Integer dimensionId,
+                                                RollupPeriod period, Integer buckets) {
+        int count = buckets != null ? buckets : DEFAULT_BUCKETS;
+        if (count < 1 || count > MAX_BUCKETS) {
+            throw new ValidationException("Buckets must be between 1 and " + MAX_BUCKETS);
+        }
+
+        LocalDate to = period.bucketStart(LocalDate.now());
+        LocalDate from = period.minusBuckets(to, count - 1);
+        Map<LocalDate, SpendRollup> rollups = spendRollupRepository
+                .findByOwnerIdAndDimensionAndDimensionIdAndPeriodAndBucketStartBetweenOrderByBucketStartDesc(ownerId,
+                        dimension, dimensionId, period, from, to)
+                .stream()
+                .collect(Collectors.toMap(SpendRollup::getBucketStart, Function.identity()));
+
+        List<SpendBucketDto> history = new ArrayList<>(count);
+        for (int bucket = 0; bucket < count; bucket++) {
+            LocalDate bucketStart = period.minusBuckets(to, bucket);
+            SpendRollup rollup = rollups.get(bucketStart);
+            history.add(rollup != null ? mapToBucketDto(rollup) : emptyBucket(period, bucketStart));
+        }
+        return history;
+    }
+
+    @Override
+    public List<CategorySpendDto> getCategorySpend(Integer ownerId, RollupPeriod period, LocalDate date) {
+        LocalDate bucketStart = period.bucketStart(date != null ? date : LocalDate.now());
+        return spendRollupRepository.findCategorySpend(ownerId, RollupDimension.CATEGORY, period, bucketStart)
+                .stream()
+                .map(spend -> new CategorySpendDto(spend.getCategoryId(), spend.getCategoryName(),
+                        spend.getSpentTotal(), spend.getPurchaseCount()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public Optional<Integer> rebuildNextOwner(Integer afterOwnerId) {
+        Optional<Integer> ownerId = shoppingListRepository.findNextOwnerId(afterOwnerId);
+        ownerId.ifPresent(spendRollups::rebuildOwner);
+        return ownerId;
+    }
+
+    private SpendBucketDto emptyBucket(RollupPeriod period, LocalDate bucketStart) {
+        return new SpendBucketDto(period, bucketStart, 0.0, 0);
+    }
+
+    private SpendBucketDto mapToBucketDto(SpendRollup rollup) {
+        return new SpendBucketDto(rollup.getPeriod(), rollup.getBucketStart(), rollup.getSpentTotal(),
+                rollup.getPurchaseCount());
+    }
+}
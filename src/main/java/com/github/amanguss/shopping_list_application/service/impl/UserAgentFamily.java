@@ -0,0 +1,55 @@
+package com.github.amanguss.shopping_list_application.service.impl;
+
+record UserAgentFamily(String browser, String os) {
+
+    static final String UNKNOWN = "Unknown";
+    static final String OTHER = "Other";
+
+    static UserAgentFamily parse(String userAgent) {
+        if (userAgent == null || userAgent.isBlank()) {
+            return new UserAgentFamily(UNKNOWN, UNKNOWN);
+        }
+        return new UserAgentFamily(browserOf(userAgent), osOf(userAgent));
+    }
+
+    private static String browserOf(String userAgent) {
+        if (userAgent.contains("Edg/")) {
+            return "Edge";
+        }
+        if (userAgent.contains("OPR/") || userAgent.contains("Opera")) {
+            return "Opera";
+        }
+        if (userAgent.contains("Firefox/") || userAgent.contains("FxiOS/")) {
+            return "Firefox";
+        }
+        if (userAgent.contains("Chrome/") || userAgent.contains("CriOS/")) {
+            return "Chrome";
+        }
+        if (userAgent.contains("Safari/")) {
+            return "Safari";
+        }
+        return OTHER;
+    }
+
+    private static String osOf(String userAgent) {
+        if (userAgent.contains("Windows")) {
+            return "Windows";
+        }
+        if (userAgent.contains("Android")) {
+            return "Android";
+        }
+        if (userAgent.contains("iPhone") || userAgent.contains("iPad") || userAgent.contains("iPod")) {
+            return "iOS";
+        }
+        if (userAgent.contains("Mac OS X") || userAgent.contains("Macintosh")) {
+            return "macOS";
+        }
+        if (userAgent.contains("CrOS")) {
+            return "ChromeOS";
+        }
+        if (userAgent.contains("Linux")) {
+            return "Linux";
+        }
+        return OTHER;
+    }
+}
@@ -2,6 +2,7 @@ package com.github.amanguss.shopping_list_application.service.impl;
 
 import com.github.amanguss.shopping_list_application.entity.User;
 import com.github.amanguss.shopping_list_application.entity.enums.AccountStatus;
+import com.github.amanguss.shopping_list_application.dto.page.CursorPageResponseDto;
 import com.github.amanguss.shopping_list_application.dto.user.UserCreateDto;
 import com.github.amanguss.shopping_list_application.dto.user.UserResponseDto;
 import com.github.amanguss.shopping_list_application.exception.ValidationException;
@@ -20,6 +21,7 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
@@ -68,6 +70,14 @@ public class UserServiceImpl implements UserService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPageResponseDto<UserResponseDto> getUserPage(String cursor, Integer size) {
+        KeysetPage.Cursor after = KeysetPage.decode(cursor);
+        int pageSize = KeysetPage.size(size);
+        return KeysetPage.toPage(userRepository.findPage(after.date(), after.id(), KeysetPage.limit(pageSize)),
+                pageSize, this::mapToResponseDto, user -> KeysetPage.encode(user.getRegistrationDate(), user.getId()));
+    }
+
     @Override
     public List<UserResponseDto> getUsersByName(String name) {
         return userRepository.findByNameContainingIgnoreCase(name)
@@ -1,5 +1,6 @@
 package com.github.amanguss.shopping_list_application.service.impl;
 
+import com.github.amanguss.shopping_list_application.dto.userSession.BrowserStatisticDto;
 import com.github.amanguss.shopping_list_application.dto.userSession.UserSessionCreateDto;
 import com.github.amanguss.shopping_list_application.dto.userSession.UserSessionResponseDto;
 import com.github.amanguss.shopping_list_application.entity.User;
@@ -9,23 +10,63 @@ import com.github.amanguss.shopping_list_application.repository.UserRepository;
 import com.github.amanguss.shopping_list_application.repository.UserSessionRepository;
 import com.github.amanguss.shopping_list_application.service.UserSessionService;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PreDestroy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import lombok.RequiredArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class UserSessionServiceImpl implements UserSessionService {
 
     private final UserSessionRepository userSessionRepository;
     private final UserRepository userRepository;
 
+    private static final int SESSION_CACHE_SIZE = 10_000;
+    private static final Duration SESSION_CACHE_TTL = Duration.ofSeconds(30);
+    private static final int FLUSH_BATCH_SIZE = 1000;
+
+    private final Cache<String, UserSessionResponseDto> sessionCache = Caffeine.newBuilder()
+            .maximumSize(SESSION_CACHE_SIZE)
+            .expireAfter(new Expiry<String, UserSessionResponseDto>() {
+                @Override
+                public long expireAfterCreate(String token, UserSessionResponseDto session, long currentTime) {
+                    return SESSION_CACHE_TTL.toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String token, UserSessionResponseDto session, long currentTime,
+                                              long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String token, UserSessionResponseDto session, long currentTime,
+                                            long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    private final Map<Integer, LocalDateTime> pendingActivity = new ConcurrentHashMap<>();
+
     @Override
     @Transactional
     public UserSessionResponseDto createSession(Integer userId, UserSessionCreateDto dto) {
@@ -41,22 +82,28 @@ public class UserSessionServiceImpl implements UserSessionService {
         session.setIsActive(true);
         session.setUser(user);
 
+        UserAgentFamily family = UserAgentFamily.parse(dto.getUserAgent());
+        session.setBrowserFamily(family.browser());
+        session.setOsFamily(family.os());
+
         UserSession saved = userSessionRepository.save(session);
-        return mapToResponseDto(saved);
+        userSessionRepository.incrementBrowserStatistic(family.browser(), family.os());
+        UserSessionResponseDto created = mapToResponseDto(saved);
+        sessionCache.put(created.getSessionToken(), created);
+        return copyOf(created, created.getLastActivityTime(), created.getLastModifiedDate());
     }
 
     @Override
     public UserSessionResponseDto getSessionById(Integer id) {
-        UserSession session = userSessionRepository.findById(id)
+        UserSession session = userSessionRepository.findDetailedById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Session not found"));
         return mapToResponseDto(session);
     }
 
     @Override
     public UserSessionResponseDto getSessionByToken(String token) {
-        UserSession session = userSessionRepository.findBySessionTokenAndIsActiveTrue(token)
-                .orElseThrow(() -> new ResourceNotFoundException("Active session not found"));
-        return mapToResponseDto(session);
+        UserSessionResponseDto session = findActiveSession(token);
+        return copyOf(session, session.getLastActivityTime(), session.getLastModifiedDate());
     }
 
     @Override
@@ -82,15 +129,14 @@ public class UserSessionServiceImpl implements UserSessionService {
     }
 
     @Override
-    @Transactional
     public UserSessionResponseDto updateLastActivity(String token) {
-        UserSession session = userSessionRepository.findBySessionTokenAndIsActiveTrue(token)
-                .orElseThrow(() -> new ResourceNotFoundException("Active session not found"));
+        UserSessionResponseDto session = findActiveSession(token);
+        LocalDateTime now = LocalDateTime.now();
 
-        session.setLastActivityTime(LocalDateTime.now());
-        session.setLastModifiedDate(LocalDateTime.now());
-        UserSession saved = userSessionRepository.save(session);
-        return mapToResponseDto(saved);
+        UserSessionResponseDto updated = copyOf(session, now, now);
+        sessionCache.put(token, updated);
+        pendingActivity.put(updated.getId(), now);
+        return copyOf(updated, now, now);
     }
 
     @Override
@@ -102,6 +148,8 @@ public class UserSessionServiceImpl implements UserSessionService {
         session.setIsActive(false);
         session.setLogoutTime(LocalDateTime.now());
         userSessionRepository.save(session);
+        pendingActivity.remove(session.getId());
+        afterCommit(() -> sessionCache.invalidate(token));
     }
 
     @Override
@@ -111,12 +159,47 @@ public class UserSessionServiceImpl implements UserSessionService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         userSessionRepository.deactivateAllUserSessions(user, LocalDateTime.now());
+        afterCommit(() -> sessionCache.asMap().values().removeIf(session -> userId.equals(session.getUserId())));
     }
 
     @Override
     @Transactional
     public void deactivateExpiredSessions(LocalDateTime cutoffTime) {
+        flushLastActivity();
         userSessionRepository.deactivateExpiredSessions(cutoffTime, LocalDateTime.now());
+        afterCommit(() -> sessionCache.asMap().values().removeIf(session -> session.getLastActivityTime() == null
+                || session.getLastActivityTime().isBefore(cutoffTime)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int archiveInactiveSessions(LocalDateTime cutoffTime, int batchSize) {
+        return userSessionRepository.archiveInactiveSessions(cutoffTime, batchSize);
+    }
+
+    @Override
+    @PreDestroy
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int flushLastActivity() {
+        Map<Integer, LocalDateTime> activityById = new TreeMap<>();
+        for (Integer id : pendingActivity.keySet()) {
+            LocalDateTime activityTime = pendingActivity.remove(id);
+            if (activityTime != null) {
+                activityById.put(id, activityTime);
+            }
+        }
+
+        List<Map.Entry<Integer, LocalDateTime>> pending = new ArrayList<>(activityById.entrySet());
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (int from = 0; from < pending.size(); from += FLUSH_BATCH_SIZE) {
+            List<Map.Entry<Integer, LocalDateTime>> batch = pending.subList(from, Math.min(from + FLUSH_BATCH_SIZE, pending.size()));
+            updated += userSessionRepository.updateLastActivity(
+                    batch.stream().map(Map.Entry::getKey).toArray(Integer[]::new),
+                    batch.stream().map(Map.Entry::getValue).toArray(LocalDateTime[]::new),
+                    now);
+        }
+        return updated;
     }
 
     @Override
@@ -128,8 +211,59 @@ public class UserSessionServiceImpl implements UserSessionService {
     }
 
     @Override
-    public List<Object[]> getBrowserStatistics() {
-        return userSessionRepository.getBrowserStatistics();
+    public List<BrowserStatisticDto> getBrowserStatistics() {
+        return userSessionRepository.findBrowserStatistics()
+                .stream()
+                .map(statistic -> new BrowserStatisticDto(statistic.getBrowserFamily(), statistic.getOsFamily(),
+                        statistic.getSessionCount()))
+                .collect(Collectors.toList());
+    }
+
+    private UserSessionResponseDto findActiveSession(String token) {
+        UserSessionResponseDto cached = sessionCache.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserSession session = userSessionRepository.findBySessionTokenAndIsActiveTrue(token)
+                .orElseThrow(() -> new ResourceNotFoundException("Active session not found"));
+        UserSessionResponseDto loaded = mapToResponseDto(session);
+        LocalDateTime pending = pendingActivity.get(loaded.getId());
+        if (pending != null) {
+            loaded = copyOf(loaded, pending, pending);
+        }
+        sessionCache.put(token, loaded);
+        return loaded;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private UserSessionResponseDto copyOf(UserSessionResponseDto session, LocalDateTime lastActivityTime,
+                                          LocalDateTime lastModifiedDate) {
+        return new UserSessionResponseDto(
+                session.getId(),
+                session.getSessionToken(),
+                session.getLoginTime(),
+                session.getLogoutTime(),
+                lastActivityTime,
+                lastModifiedDate,
+                session.getIpAddress(),
+                session.getUserAgent(),
+                session.getIsActive(),
+                session.getUserName(),
+                session.getUserId()
+        );
     }
 
     private UserSessionResponseDto mapToResponseDto(UserSession session) {
@@ -0,0 +1,66 @@
+package com.github.amanguss.shopping_list_application.sync;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListResponseDto;
+import com.github.amanguss.shopping_list_application.dto.sync.ItemDeltaDto;
+import com.github.amanguss.shopping_list_application.entity.ListChange;
+import com.github.amanguss.shopping_list_application.entity.enums.ChangeOperation;
+import com.github.amanguss.shopping_list_application.exception.ResourceNotFoundException;
+import com.github.amanguss.shopping_list_application.repository.ListChangeRepository;
+import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ListChangeRecorder {
+
+    private final ListChangeRepository listChangeRepository;
+    private final ShoppingListRepository shoppingListRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onItemDelta(ItemDeltaDto delta) {
+        Integer shoppingListId = delta.getShoppingListId();
+        Long version = currentVersion(shoppingListId);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ListChange> changes = new ArrayList<>();
+        delta.getUpserted().forEach(item -> changes.add(new ListChange(null, shoppingListId, item.getId(), version,
+                ChangeOperation.ITEM_UPSERTED, toJson(item), now)));
+        delta.getDeletedIds().forEach(itemId -> changes.add(new ListChange(null, shoppingListId, itemId, version,
+                ChangeOperation.ITEM_DELETED, null, now)));
+        listChangeRepository.saveAll(changes);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onShoppingListUpdated(ShoppingListResponseDto shoppingList) {
+        Long version = currentVersion(shoppingList.getId());
+        listChangeRepository.save(new ListChange(null, shoppingList.getId(), null, version,
+                ChangeOperation.LIST_UPDATED, toJson(shoppingList), LocalDateTime.now()));
+    }
+
+    private Long currentVersion(Integer shoppingListId) {
+        return shoppingListRepository.findContentVersionById(shoppingListId)
+                .orElseThrow(() -> new ResourceNotFoundException("Shopping list not found"));
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize list change payload", e);
+        }
+    }
+}
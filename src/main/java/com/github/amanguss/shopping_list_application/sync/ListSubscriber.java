@@ -0,0 +1,110 @@
+package com.github.amanguss.shopping_list_application.sync;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class ListSubscriber {
+
+    static final Set<DataWithMediaType> RESYNC = SseEmitter.event().name("resync").data("resync").build();
+
+    private final Integer shoppingListId;
+    private final Integer userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<DataWithMediaType>> queue;
+    private final Executor executor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile boolean completing;
+
+    ListSubscriber(Integer shoppingListId, Integer userId, SseEmitter emitter, int queueCapacity, Executor executor) {
+        this.shoppingListId = shoppingListId;
+        this.userId = userId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = executor;
+    }
+
+    Integer getShoppingListId() {
+        return shoppingListId;
+    }
+
+    Integer getUserId() {
+        return userId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void offer(Set<DataWithMediaType> event) {
+        if (closed || completing) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            queue.clear();
+            queue.offer(RESYNC);
+        }
+        scheduleDrain();
+    }
+
+    void complete(Set<DataWithMediaType> lastEvent) {
+        if (closed) {
+            return;
+        }
+        completing = true;
+        queue.clear();
+        queue.offer(lastEvent);
+        scheduleDrain();
+    }
+
+    void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            close();
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void drain() {
+        try {
+            Set<DataWithMediaType> event;
+            while (!closed && (event = queue.poll()) != null) {
+                emitter.send(event);
+            }
+            if (completing && !closed && queue.isEmpty()) {
+                close();
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+            emitter.completeWithError(e);
+        } finally {
+            draining.set(false);
+        }
+        if (!closed && !queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
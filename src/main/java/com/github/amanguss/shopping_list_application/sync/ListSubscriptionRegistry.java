@@ -0,0 +1,156 @@
+package com.github.amanguss.shopping_list_application.sync;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.amanguss.shopping_list_application.config.ListSyncConfig;
+import com.github.amanguss.shopping_list_application.config.ListSyncProperties;
+import com.github.amanguss.shopping_list_application.dto.budget.BudgetAlertDto;
+import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListResponseDto;
+import com.github.amanguss.shopping_list_application.dto.sync.ItemDeltaDto;
+import com.github.amanguss.shopping_list_application.dto.sync.ShareRevokedDto;
+import com.github.amanguss.shopping_list_application.dto.sync.ShoppingListDeletedDto;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+@Slf4j
+@Component
+public class ListSubscriptionRegistry {
+
+    static final String ITEMS_EVENT = "items";
+    static final String LIST_EVENT = "list";
+    static final String BUDGET_EVENT = "budget";
+    static final String DELETED_EVENT = "deleted";
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final Map<Integer, Set<ListSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final TaskScheduler taskScheduler;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ListSyncProperties properties;
+
+    public ListSubscriptionRegistry(@Qualifier(ListSyncConfig.EXECUTOR) Executor executor,
+                                    TaskScheduler taskScheduler,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    ListSyncProperties properties) {
+        this.executor = executor;
+        this.taskScheduler = taskScheduler;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void start() {
+        Gauge.builder("list.sync.subscribers", this, ListSubscriptionRegistry::subscriberCount)
+                .register(meterRegistry);
+        taskScheduler.scheduleAtFixedRate(this::heartbeat, properties.heartbeat());
+    }
+
+    public SseEmitter subscribe(Integer shoppingListId, Integer userId) {
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        ListSubscriber subscriber = new ListSubscriber(shoppingListId, userId, emitter, properties.queueCapacity(), executor);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        subscribers.computeIfAbsent(shoppingListId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriber.offer(HEARTBEAT);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemDelta(ItemDeltaDto delta) {
+        publish(delta.getShoppingListId(), ITEMS_EVENT, delta);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShoppingListUpdated(ShoppingListResponseDto shoppingList) {
+        publish(shoppingList.getId(), LIST_EVENT, shoppingList);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBudgetAlert(BudgetAlertDto alert) {
+        publish(alert.getShoppingListId(), BUDGET_EVENT, alert);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShareRevoked(ShareRevokedDto revoked) {
+        Set<ListSubscriber> listSubscribers = subscribers.get(revoked.getShoppingListId());
+        if (listSubscribers == null) {
+            return;
+        }
+        listSubscribers.stream()
+                .filter(subscriber -> subscriber.getUserId().equals(revoked.getUserId()))
+                .forEach(subscriber -> {
+                    unsubscribe(subscriber);
+                    subscriber.getEmitter().complete();
+                });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onShoppingListDeleted(ShoppingListDeletedDto deleted) {
+        Set<ListSubscriber> listSubscribers = subscribers.remove(deleted.getShoppingListId());
+        if (listSubscribers == null) {
+            return;
+        }
+        Set<DataWithMediaType> event = toEvent(deleted.getShoppingListId(), DELETED_EVENT, deleted);
+        listSubscribers.forEach(subscriber -> subscriber.complete(event != null ? event : HEARTBEAT));
+    }
+
+    public void publish(Integer shoppingListId, String eventName, Object payload) {
+        Set<ListSubscriber> listSubscribers = subscribers.get(shoppingListId);
+        if (listSubscribers == null || listSubscribers.isEmpty()) {
+            return;
+        }
+
+        Set<DataWithMediaType> event = toEvent(shoppingListId, eventName, payload);
+        if (event != null) {
+            listSubscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    private Set<DataWithMediaType> toEvent(Integer shoppingListId, String eventName, Object payload) {
+        try {
+            return SseEmitter.event()
+                    .name(eventName)
+                    .data(objectMapper.writeValueAsString(payload))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize {} event for shopping list {}", eventName, shoppingListId, e);
+            return null;
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void heartbeat() {
+        subscribers.values().forEach(listSubscribers -> listSubscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+    }
+
+    private void unsubscribe(ListSubscriber subscriber) {
+        subscriber.close();
+        subscribers.computeIfPresent(subscriber.getShoppingListId(), (id, listSubscribers) -> {
+            listSubscribers.remove(subscriber);
+            return listSubscribers.isEmpty() ? null : listSubscribers;
+        });
+    }
+}
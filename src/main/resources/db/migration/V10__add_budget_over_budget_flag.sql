@@ -0,0 +1,14 @@
+alter table budgets add column is_over_budget boolean not null default false;
+
+alter table budgets add column over_budget_since timestamp(6);
+
+update budgets b
+set is_over_budget = true,
+    over_budget_since = now()
+from shopping_lists sl
+where sl.budget_id = b.budget_id
+  and coalesce(b.is_active, false)
+  and sl.spent_total > b.budget_limit;
+
+create index if not exists idx_budgets_over_budget_since
+    on budgets (over_budget_since) where is_over_budget = true;
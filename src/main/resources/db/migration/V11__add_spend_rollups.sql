@@ -0,0 +1,10 @@
+create table spend_rollups (
+    owner_id integer not null,
+    dimension varchar(16) not null check (dimension in ('LIST','OWNER','CATEGORY')),
+    dimension_id integer not null,
+    period varchar(8) not null check (period in ('DAY','WEEK','MONTH')),
+    bucket_start date not null,
+    spent_total float(53) not null,
+    purchase_count integer not null,
+    primary key (owner_id, dimension, dimension_id, period, bucket_start)
+);
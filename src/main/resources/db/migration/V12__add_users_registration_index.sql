@@ -0,0 +1,2 @@
+create index if not exists idx_users_registration_date
+    on users (registration_date, user_id);
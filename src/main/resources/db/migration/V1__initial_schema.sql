@@ -0,0 +1,147 @@
+create sequence budgets_seq start with 1 increment by 50;
+
+create sequence categories_seq start with 1 increment by 50;
+
+create sequence items_seq start with 1 increment by 50;
+
+create sequence list_shares_seq start with 1 increment by 50;
+
+create sequence shopping_lists_seq start with 1 increment by 50;
+
+create sequence user_sessions_seq start with 1 increment by 50;
+
+create sequence users_seq start with 1 increment by 50;
+
+create table budgets (
+    budget_currency varchar(3),
+    budget_id integer not null,
+    budget_limit float(53) not null,
+    is_active boolean,
+    creation_date timestamp(6) not null,
+    budget_period varchar(50) check (budget_period in ('WEEKLY','MONTHLY','PER_LIST')),
+    primary key (budget_id)
+);
+
+create table categories (
+    category_id integer not null,
+    display_order integer,
+    is_system_category boolean,
+    creation_date timestamp(6) not null,
+    category_color varchar(255),
+    category_description varchar(255),
+    category_name varchar(255) not null,
+    primary key (category_id)
+);
+
+create table items (
+    actual_price float(53),
+    category_id integer not null,
+    estimated_price float(53),
+    is_purchased boolean not null,
+    item_id integer not null,
+    list_id integer not null,
+    quantity float(53),
+    added_date timestamp(6) not null,
+    purchase_date timestamp(6),
+    item_description varchar(255),
+    item_name varchar(255) not null,
+    notes varchar(255),
+    priority_level varchar(255) check (priority_level in ('URGENT','HIGH','MEDIUM','LOW')),
+    unit_of_measure varchar(255),
+    primary key (item_id)
+);
+
+create table list_shares (
+    is_active boolean not null,
+    list_id integer not null,
+    share_id integer not null,
+    shared_by_user_id integer not null,
+    shared_with_user_id integer not null,
+    expiration_date timestamp(6),
+    shared_date timestamp(6) not null,
+    permission_type varchar(255) check (permission_type in ('VIEW','EDIT','ADMIN')),
+    primary key (share_id)
+);
+
+create table shopping_lists (
+    budget_id integer unique,
+    is_template boolean not null,
+    list_id integer not null,
+    owner_user_id integer not null,
+    creation_date timestamp(6) not null,
+    last_modified_date timestamp(6),
+    list_description varchar(255),
+    list_name varchar(255) not null,
+    list_status varchar(255) check (list_status in ('ACTIVE','ARCHIVED','DELETED')),
+    priority_level varchar(255) check (priority_level in ('URGENT','HIGH','MEDIUM','LOW')),
+    primary key (list_id)
+);
+
+create table user_sessions (
+    is_active boolean,
+    session_id integer not null,
+    user_id integer not null,
+    last_activity_timestamp timestamp(6),
+    last_modified_date timestamp(6),
+    login_timestamp timestamp(6),
+    logout_timestamp timestamp(6),
+    ip_address varchar(255),
+    session_token varchar(255) not null unique,
+    user_agent varchar(255),
+    primary key (session_id)
+);
+
+create table users (
+    email_verified boolean,
+    user_id integer not null,
+    date_of_birth timestamp(6),
+    last_login_date timestamp(6),
+    registration_date timestamp(6) not null,
+    account_status varchar(255) not null check (account_status in ('ACTIVE','INACTIVE','SUSPENDED')),
+    email_address varchar(255) not null unique,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    password_hash varchar(255) not null,
+    phone_number varchar(255),
+    primary key (user_id)
+);
+
+alter table if exists items
+    add constraint FK_ITEMS_CATEGORY
+    foreign key (category_id)
+    references categories;
+
+alter table if exists items
+    add constraint FK_ITEMS_LIST
+    foreign key (list_id)
+    references shopping_lists;
+
+alter table if exists list_shares
+    add constraint FK_LIST_SHARES_SHARED_BY
+    foreign key (shared_by_user_id)
+    references users;
+
+alter table if exists list_shares
+    add constraint FK_LIST_SHARES_SHARED_WITH
+    foreign key (shared_with_user_id)
+    references users;
+
+alter table if exists list_shares
+    add constraint FK_LIST_SHARES_LIST
+    foreign key (list_id)
+    references shopping_lists;
+
+alter table if exists shopping_lists
+    add constraint FK_SHOPPING_LISTS_BUDGET
+    foreign key (budget_id)
+    references budgets;
+
+alter table if exists shopping_lists
+    add constraint FK_SHOPPING_LISTS_OWNER
+    foreign key (owner_user_id)
+    references users;
+
+alter table if exists user_sessions
+    add constraint FK_USER_SESSIONS_USER
+    foreign key (user_id)
+    references users;
@@ -0,0 +1,23 @@
+alter table shopping_lists add column item_count integer not null default 0;
+
+alter table shopping_lists add column purchased_count integer not null default 0;
+
+alter table shopping_lists add column estimated_total float(53) not null default 0;
+
+alter table shopping_lists add column spent_total float(53) not null default 0;
+
+update shopping_lists sl
+set item_count = totals.item_count,
+    purchased_count = totals.purchased_count,
+    estimated_total = totals.estimated_total,
+    spent_total = totals.spent_total
+from (
+    select list_id,
+           count(*) as item_count,
+           count(*) filter (where is_purchased) as purchased_count,
+           coalesce(sum(estimated_price * quantity), 0) as estimated_total,
+           coalesce(sum(actual_price * quantity) filter (where is_purchased), 0) as spent_total
+    from items
+    group by list_id
+) totals
+where totals.list_id = sl.list_id;
@@ -0,0 +1,14 @@
+create index if not exists idx_shopping_lists_owner_creation
+    on shopping_lists (owner_user_id, creation_date, list_id);
+
+create index if not exists idx_items_list_purchased_added
+    on items (list_id, is_purchased, added_date);
+
+create index if not exists idx_list_shares_shared_to_active_date
+    on list_shares (shared_with_user_id, is_active, shared_date);
+
+create index if not exists idx_list_shares_expiration_active
+    on list_shares (expiration_date, is_active);
+
+create index if not exists idx_user_sessions_token_active
+    on user_sessions (session_token, is_active);
@@ -0,0 +1,16 @@
+create extension if not exists pg_trgm;
+
+create index if not exists idx_shopping_lists_name_trgm
+    on shopping_lists using gin (lower(list_name) gin_trgm_ops);
+
+create index if not exists idx_shopping_lists_description_trgm
+    on shopping_lists using gin (lower(list_description) gin_trgm_ops);
+
+create index if not exists idx_items_name_trgm
+    on items using gin (lower(item_name) gin_trgm_ops);
+
+create index if not exists idx_users_first_name_trgm
+    on users using gin (lower(first_name) gin_trgm_ops);
+
+create index if not exists idx_users_last_name_trgm
+    on users using gin (lower(last_name) gin_trgm_ops);
@@ -0,0 +1,24 @@
+create table user_sessions_archive (
+    session_id integer not null,
+    user_id integer not null,
+    last_activity_timestamp timestamp(6),
+    login_timestamp timestamp(6),
+    logout_timestamp timestamp(6),
+    archived_at timestamp(6) not null,
+    ip_address varchar(255),
+    session_token varchar(255) not null,
+    user_agent varchar(255),
+    primary key (session_id)
+);
+
+create index if not exists idx_user_sessions_archive_logout
+    on user_sessions_archive using brin (logout_timestamp);
+
+create index if not exists idx_user_sessions_archive_user_login
+    on user_sessions_archive (user_id, login_timestamp);
+
+create index if not exists idx_user_sessions_inactive_logout
+    on user_sessions (logout_timestamp) where is_active = false;
+
+create index if not exists idx_user_sessions_user_login
+    on user_sessions (user_id, login_timestamp);
@@ -0,0 +1,45 @@
+alter table user_sessions add column browser_family varchar(50);
+
+alter table user_sessions add column os_family varchar(50);
+
+alter table user_sessions_archive add column browser_family varchar(50);
+
+alter table user_sessions_archive add column os_family varchar(50);
+
+create table browser_statistics (
+    browser_family varchar(50) not null,
+    os_family varchar(50) not null,
+    session_count bigint not null,
+    primary key (browser_family, os_family)
+);
+
+insert into browser_statistics (browser_family, os_family, session_count)
+select browser_family, os_family, count(*)
+from (
+    select
+        case
+            when user_agent is null or btrim(user_agent) = '' then 'Unknown'
+            when user_agent like '%Edg/%' then 'Edge'
+            when user_agent like '%OPR/%' or user_agent like '%Opera%' then 'Opera'
+            when user_agent like '%Firefox/%' or user_agent like '%FxiOS/%' then 'Firefox'
+            when user_agent like '%Chrome/%' or user_agent like '%CriOS/%' then 'Chrome'
+            when user_agent like '%Safari/%' then 'Safari'
+            else 'Other'
+        end as browser_family,
+        case
+            when user_agent is null or btrim(user_agent) = '' then 'Unknown'
+            when user_agent like '%Windows%' then 'Windows'
+            when user_agent like '%Android%' then 'Android'
+            when user_agent like '%iPhone%' or user_agent like '%iPad%' or user_agent like '%iPod%' then 'iOS'
+            when user_agent like '%Mac OS X%' or user_agent like '%Macintosh%' then 'macOS'
+            when user_agent like '%CrOS%' then 'ChromeOS'
+            when user_agent like '%Linux%' then 'Linux'
+            else 'Other'
+        end as os_family
+    from (
+        select user_agent from user_sessions
+        union all
+        select user_agent from user_sessions_archive
+    ) sessions
+) families
+group by browser_family, os_family;
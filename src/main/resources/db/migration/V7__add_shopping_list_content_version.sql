@@ -0,0 +1,3 @@
+alter table shopping_lists add column content_version bigint not null default 0;
+
+update shopping_lists set last_modified_date = creation_date where last_modified_date is null;
@@ -0,0 +1,5 @@
+alter table shopping_lists add column version bigint not null default 0;
+
+alter table items add column version bigint not null default 0;
+
+alter table budgets add column version bigint not null default 0;
@@ -0,0 +1,28 @@
+alter table shopping_lists add column compacted_version bigint not null default 0;
+
+update shopping_lists set compacted_version = content_version;
+
+create sequence list_changes_seq start with 1 increment by 50;
+
+create table list_changes (
+    change_id bigint not null,
+    list_id integer not null,
+    item_id integer,
+    version bigint not null,
+    created_at timestamp(6) not null,
+    operation varchar(32) not null check (operation in ('ITEM_UPSERTED','ITEM_DELETED','LIST_UPDATED')),
+    payload text,
+    primary key (change_id)
+);
+
+alter table if exists list_changes
+    add constraint FK_LIST_CHANGES_LIST
+    foreign key (list_id)
+    references shopping_lists
+    on delete cascade;
+
+create index if not exists idx_list_changes_list_version
+    on list_changes (list_id, version);
+
+create index if not exists idx_list_changes_created
+    on list_changes using brin (created_at);
@@ -65,9 +65,42 @@ class ItemsManager {
     }
 
     setupRealTimeUpdates() {
-        setInterval(() => {
-            this.refreshItems();
-        }, 30000);
+        if (!this.currentListId) return;
+
+        if (!window.EventSource) {
+            setInterval(() => {
+                this.refreshItems();
+            }, 30000);
+            return;
+        }
+
+        this.eventSource = new EventSource(`/api/shopping-lists/${this.currentListId}/events`);
+        this.eventSource.addEventListener('items', (e) => this.applyItemDelta(JSON.parse(e.data)));
+        this.eventSource.addEventListener('resync', () => this.refreshItems());
+        window.addEventListener('beforeunload', () => this.eventSource.close());
+    }
+
+    applyItemDelta(delta) {
+        const container = document.querySelector('.items-container');
+        if (!container) return;
+
+        (delta.upserted || []).forEach(item => {
+            const existingElement = container.querySelector(`[data-item-id="${item.id}"]`);
+            if (existingElement) {
+                this.updateItemElement(existingElement, item);
+            } else {
+                this.addItemToDOM(item);
+            }
+        });
+
+        (delta.deletedIds || []).forEach(id => {
+            const element = container.querySelector(`[data-item-id="${id}"]`);
+            if (element) {
+                element.remove();
+            }
+        });
+
+        this.updateListStatistics();
     }
 
     async handleAddItem(event) {
@@ -371,9 +404,9 @@ class ItemsManager {
 
     async refreshItems() {
         try {
-            const response = await window.app.makeRequest(`/api/lists/${this.currentListId}/items`);
-            if (response.success) {
-                this.updateItemsList(response.data);
+            const response = await window.app.makeRequest(`/api/items/shopping-list/${this.currentListId}`);
+            if (response.ok) {
+                this.updateItemsList(await response.json());
             }
         } catch (error) {
             console.error('Refresh error:', error);
@@ -0,0 +1,93 @@
+package com.github.amanguss.shopping_list_application.analytics;
+
+import com.github.amanguss.shopping_list_application.repository.SpendRollupRepository;
+import com.github.amanguss.shopping_list_application.service.ItemService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.YearMonth;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class SpendCubeIndexSnapshotTest {
+
+    private static final int OWNER_ID = 1;
+    private static final int LIST_ID = 1;
+    private static final int ITEM_ID = 1;
+    private static final double ACTUAL_PRICE = 4.5;
+    private static final double QUANTITY = 2;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @SpyBean
+    private SpendRollupRepository spendRollupRepository;
+
+    @Autowired
+    private SpendCubeIndex spendCubeIndex;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (user_id, first_name, last_name, email_address, password_hash, " +
+                "registration_date, account_status) VALUES (?, 'First', 'Last', 'user@example.com', 'hash', now(), " +
+                "'ACTIVE')", OWNER_ID);
+        jdbcTemplate.update("INSERT INTO categories (category_id, category_name, creation_date) " +
+                "VALUES (1, 'Category', now())");
+        jdbcTemplate.update("INSERT INTO shopping_lists (list_id, list_name, creation_date, is_template, owner_user_id) " +
+                "VALUES (?, 'List', now(), false, ?)", LIST_ID, OWNER_ID);
+        jdbcTemplate.update("INSERT INTO items (item_id, item_name, is_purchased, added_date, estimated_price, " +
+                "quantity, list_id, category_id) VALUES (?, 'Item', false, now(), 4.0, ?, ?, 1)",
+                ITEM_ID, QUANTITY, LIST_ID);
+        jdbcTemplate.update("UPDATE shopping_lists SET item_count = 1, estimated_total = 8.0 WHERE list_id = ?",
+                LIST_ID);
+    }
+
+    @Test
+    void rebuild_CountsDeltaCommittedAfterSnapshotExactlyOnce() throws Exception {
+        doAnswer(invocation -> {
+            String snapshot = jdbcTemplate.queryForObject("SELECT CAST(pg_current_snapshot() AS text)", String.class);
+            CompletableFuture.runAsync(() -> itemService.markAsPurchased(ITEM_ID, ACTUAL_PRICE))
+                    .get(30, TimeUnit.SECONDS);
+            return snapshot;
+        }).when(spendRollupRepository).currentSnapshot();
+
+        spendCubeIndex.rebuild();
+
+        int month = SpendCube.monthIndex(YearMonth.now());
+        SpendCube.Totals totals = spendCubeIndex.lists()
+                .aggregate(OWNER_ID, month, month, false)
+                .get((long) LIST_ID << 32);
+        assertNotNull(totals);
+        assertEquals(ACTUAL_PRICE * QUANTITY, totals.spent(), 0.0001);
+        assertEquals(1, totals.purchases());
+        assertEquals(Boolean.TRUE, jdbcTemplate.queryForObject(
+                "SELECT is_purchased FROM items WHERE item_id = ?", Boolean.class, ITEM_ID));
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.amanguss.shopping_list_application.analytics;
+
+import com.github.amanguss.shopping_list_application.config.AnalyticsProperties;
+import com.github.amanguss.shopping_list_application.dto.analytics.PurchaseSpendDto;
+import com.github.amanguss.shopping_list_application.dto.analytics.SpendDeltaDto;
+import com.github.amanguss.shopping_list_application.repository.ItemRepository;
+import com.github.amanguss.shopping_list_application.repository.SpendRollupRepository;
+import com.github.amanguss.shopping_list_application.repository.projection.SpendCell;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpendCubeIndexTest {
+
+    private static final int MONTH = SpendCube.monthIndex(YearMonth.now());
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private SpendRollupRepository spendRollupRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SpendCubeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SpendCubeIndex(itemRepository, spendRollupRepository, transactionManager,
+                new SimpleMeterRegistry(), new AnalyticsProperties(24, 1, 4096, 100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.stop();
+    }
+
+    @Test
+    void rebuild_ReplaysOnlyDeltasTheSnapshotDidNotSee() {
+        when(spendRollupRepository.currentSnapshot()).thenReturn("100:105:102");
+        when(itemRepository.findCategorySpendCells(any(LocalDateTime.class))).thenAnswer(invocation -> {
+            index.onSpendDelta(purchase(10.0, 101L));
+            index.onSpendDelta(purchase(4.0, 102L));
+            index.onSpendDelta(purchase(1.0, 106L));
+            return List.of(cell(5, 10.0));
+        });
+        when(itemRepository.findListSpendCells(any(LocalDateTime.class))).thenReturn(List.of(cell(3, 10.0)));
+
+        index.rebuild();
+
+        SpendCube.Totals list = index.lists().aggregate(1, MONTH, MONTH, false).get(3L << 32);
+        SpendCube.Totals category = index.categories().aggregate(1, MONTH, MONTH, false).get(5L << 32);
+        assertEquals(15.0, list.spent());
+        assertEquals(3, list.purchases());
+        assertEquals(15.0, category.spent());
+
+        index.onSpendDelta(purchase(2.0, 107L));
+
+        assertEquals(17.0, index.lists().aggregate(1, MONTH, MONTH, false).get(3L << 32).spent());
+    }
+
+    @Test
+    void commitSnapshot_TreatsInProgressAndFutureTransactionsAsUnseen() {
+        CommitSnapshot snapshot = CommitSnapshot.parse("100:105:102,103");
+
+        assertTrue(snapshot.includes(99L));
+        assertTrue(snapshot.includes(101L));
+        assertFalse(snapshot.includes(102L));
+        assertFalse(snapshot.includes(105L));
+        assertTrue(CommitSnapshot.parse("7:7:").includes(6L));
+    }
+
+    private SpendDeltaDto purchase(double spent, long transactionId) {
+        return new SpendDeltaDto(List.of(),
+                List.of(new PurchaseSpendDto(1, 3, 5, LocalDate.now(), spent, spent)), transactionId);
+    }
+
+    private SpendCell cell(int dimensionId, double spent) {
+        return new SpendCell() {
+            @Override
+            public Integer getOwnerId() {
+                return 1;
+            }
+
+            @Override
+            public Integer getDimensionId() {
+                return dimensionId;
+            }
+
+            @Override
+            public Integer getMonth() {
+                return MONTH;
+            }
+
+            @Override
+            public Double getSpent() {
+                return spent;
+            }
+
+            @Override
+            public Double getEstimated() {
+                return spent;
+            }
+
+            @Override
+            public Long getPurchases() {
+                return 1L;
+            }
+        };
+    }
+}
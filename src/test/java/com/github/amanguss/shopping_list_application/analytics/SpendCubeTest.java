@@ -0,0 +1,121 @@
+package com.github.amanguss.shopping_list_application.analytics;
+
+import com.github.amanguss.shopping_list_application.repository.projection.SpendCell;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpendCubeTest {
+
+    private static final int OCTOBER = SpendCube.monthIndex(YearMonth.of(2026, 10));
+    private static final int NOVEMBER = OCTOBER + 1;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void aggregate_GroupsOwnerRowsByKeyAndMonthWithinRange() {
+        SpendCube cube = new SpendCube(pool, Integer.MAX_VALUE);
+        cube.add(1, 10, OCTOBER, 8.0, 7.0, 1);
+        cube.add(1, 10, OCTOBER, 2.0, 3.0, 1);
+        cube.add(1, 10, NOVEMBER, 5.0, 5.0, 1);
+        cube.add(1, 20, NOVEMBER - 2, 4.0, 4.0, 1);
+        cube.add(2, 10, OCTOBER, 100.0, 90.0, 3);
+
+        Map<Long, SpendCube.Totals> byMonth = cube.aggregate(1, OCTOBER, NOVEMBER, true);
+        Map<Long, SpendCube.Totals> byKey = cube.aggregate(1, OCTOBER, NOVEMBER, false);
+
+        assertEquals(2, byMonth.size());
+        SpendCube.Totals october = byMonth.entrySet().stream()
+                .filter(entry -> SpendCube.groupMonth(entry.getKey()) == OCTOBER)
+                .findFirst().orElseThrow().getValue();
+        assertEquals(10.0, october.spent());
+        assertEquals(10.0, october.estimated());
+        assertEquals(2, october.purchases());
+        assertEquals(1, byKey.size());
+        assertEquals(10, SpendCube.groupKey(byKey.keySet().iterator().next()));
+        assertEquals(15.0, byKey.values().iterator().next().spent());
+    }
+
+    @Test
+    void aggregate_ParallelScanMatchesSequentialScan() {
+        SpendCube sequential = new SpendCube(pool, Integer.MAX_VALUE);
+        SpendCube parallel = new SpendCube(pool, 1);
+        IntStream.range(0, 5000).forEach(i -> {
+            sequential.add(1, i % 37, OCTOBER - i % 12, i, i / 2.0, 1);
+            parallel.add(1, i % 37, OCTOBER - i % 12, i, i / 2.0, 1);
+        });
+
+        Map<Long, SpendCube.Totals> expected = sequential.aggregate(1, OCTOBER - 11, OCTOBER, false);
+        Map<Long, SpendCube.Totals> actual = parallel.aggregate(1, OCTOBER - 11, OCTOBER, false);
+
+        assertEquals(expected.keySet(), actual.keySet());
+        expected.forEach((group, totals) -> {
+            assertEquals(totals.spent(), actual.get(group).spent(), 1e-6);
+            assertEquals(totals.purchases(), actual.get(group).purchases());
+        });
+    }
+
+    @Test
+    void replaceOwner_ResetsExistingRowsBeforeLoadingCells() {
+        SpendCube cube = new SpendCube(pool, Integer.MAX_VALUE);
+        cube.add(1, 10, OCTOBER, 8.0, 7.0, 1);
+        cube.add(1, 11, OCTOBER, 3.0, 3.0, 1);
+
+        cube.replaceOwner(1, List.of(cell(1, 10, OCTOBER, 5.0, 4.0, 2)));
+
+        Map<Long, SpendCube.Totals> totals = cube.aggregate(1, OCTOBER, OCTOBER, false);
+        SpendCube.Totals reloaded = totals.get(10L << 32);
+        SpendCube.Totals cleared = totals.get(11L << 32);
+        assertEquals(5.0, reloaded.spent());
+        assertEquals(2, reloaded.purchases());
+        assertEquals(0.0, cleared.spent());
+        assertEquals(0, cleared.purchases());
+        assertEquals(1, cube.findOwner(11));
+    }
+
+    private SpendCell cell(int ownerId, int dimensionId, int month, double spent, double estimated, long purchases) {
+        return new SpendCell() {
+            @Override
+            public Integer getOwnerId() {
+                return ownerId;
+            }
+
+            @Override
+            public Integer getDimensionId() {
+                return dimensionId;
+            }
+
+            @Override
+            public Integer getMonth() {
+                return month;
+            }
+
+            @Override
+            public Double getSpent() {
+                return spent;
+            }
+
+            @Override
+            public Double getEstimated() {
+                return estimated;
+            }
+
+            @Override
+            public Long getPurchases() {
+                return purchases;
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.amanguss.shopping_list_application.composition;
+
+import com.github.amanguss.shopping_list_application.config.PageCompositionProperties;
+import com.github.amanguss.shopping_list_application.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PageComposerTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ThreadPoolTaskExecutor executor;
+    private PageComposer pageComposer;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+        pageComposer = new PageComposer(executor, transactionManager,
+                new PageCompositionProperties(4, 10, Duration.ofMillis(500)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void fetch_RunsPartsConcurrentlyInReadOnlyTransactions() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        PageComposition page = pageComposer.begin();
+
+        PageComposition.Part<Boolean> first = page.fetch(() -> awaitOther(bothStarted));
+        PageComposition.Part<Boolean> second = page.fetch(() -> awaitOther(bothStarted));
+
+        assertTrue(first.get());
+        assertTrue(second.get());
+        verify(transactionManager, times(2)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    void get_DeadlineExceeded_UsesFallback() {
+        PageComposition page = pageComposer.begin();
+
+        PageComposition.Part<List<String>> part = page.fetch(() -> {
+            sleep(2000);
+            return List.of("late");
+        }, List::of);
+
+        assertEquals(List.of(), part.get());
+    }
+
+    @Test
+    void get_RequiredPartFails_RethrowsOriginalException() {
+        PageComposition page = pageComposer.begin();
+
+        PageComposition.Part<String> part = page.fetch(() -> {
+            throw new ResourceNotFoundException("Shopping list not found");
+        });
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, part::get);
+        assertEquals("Shopping list not found", exception.getMessage());
+    }
+
+    private static boolean awaitOther(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(400, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
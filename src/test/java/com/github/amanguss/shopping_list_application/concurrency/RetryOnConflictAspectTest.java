@@ -0,0 +1,108 @@
+package com.github.amanguss.shopping_list_application.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringJUnitConfig(RetryOnConflictAspectTest.Config.class)
+class RetryOnConflictAspectTest {
+
+    @Autowired
+    private ConflictingOperation operation;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        operation.reset(0);
+        meterRegistry.clear();
+    }
+
+    @Test
+    void retry_ConflictThenSuccess_ReturnsResultAndCountsRetries() {
+        operation.reset(2);
+
+        assertEquals("done", operation.update());
+
+        assertEquals(3, operation.calls());
+        assertEquals(2.0, meterRegistry.counter("optimistic.lock.retries",
+                "class", "ConflictingOperation", "method", "update").count());
+    }
+
+    @Test
+    void retry_ConflictOnEveryAttempt_RethrowsAfterMaxAttempts() {
+        operation.reset(Integer.MAX_VALUE);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> operation.update());
+
+        assertEquals(3, operation.calls());
+    }
+
+    @Test
+    void retry_OtherException_IsNotRetried() {
+        assertThrows(IllegalStateException.class, () -> operation.fail());
+
+        assertEquals(1, operation.calls());
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        RetryOnConflictAspect retryOnConflictAspect(MeterRegistry meterRegistry) {
+            return new RetryOnConflictAspect(meterRegistry);
+        }
+
+        @Bean
+        ConflictingOperation conflictingOperation() {
+            return new ConflictingOperation();
+        }
+    }
+
+    static class ConflictingOperation {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private int failures;
+
+        public void reset(int failures) {
+            this.failures = failures;
+            calls.set(0);
+        }
+
+        public int calls() {
+            return calls.get();
+        }
+
+        @RetryOnConflict
+        public String update() {
+            if (calls.incrementAndGet() <= failures) {
+                throw new OptimisticLockingFailureException("stale");
+            }
+            return "done";
+        }
+
+        @RetryOnConflict
+        public String fail() {
+            calls.incrementAndGet();
+            throw new IllegalStateException("broken");
+        }
+    }
+}
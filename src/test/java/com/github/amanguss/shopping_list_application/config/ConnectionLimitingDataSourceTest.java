@@ -0,0 +1,67 @@
+package com.github.amanguss.shopping_list_application.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConnectionLimitingDataSource(targetDataSource, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    void getConnection_PermitsExhausted_ThrowsTransientException() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        verify(targetDataSource, times(2)).getConnection();
+    }
+
+    @Test
+    void close_ReleasesPermitOnce() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        Connection limited = dataSource.getConnection();
+        assertEquals(1, dataSource.availablePermits());
+
+        limited.close();
+        limited.close();
+
+        assertEquals(2, dataSource.availablePermits());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void getConnection_TargetFails_ReleasesPermit() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("unavailable"));
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+
+        assertEquals(2, dataSource.availablePermits());
+    }
+}
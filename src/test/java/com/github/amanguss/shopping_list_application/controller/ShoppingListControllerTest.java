@@ -0,0 +1,76 @@
+package com.github.amanguss.shopping_list_application.controller;
+
+import com.github.amanguss.shopping_list_application.controller.api.ShoppingListController;
+import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListResponseDto;
+import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListVersionDto;
+import com.github.amanguss.shopping_list_application.service.ShoppingListService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ShoppingListController.class)
+class ShoppingListControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ShoppingListService shoppingListService;
+
+    private ShoppingListResponseDto responseDto;
+
+    @BeforeEach
+    void setUp() {
+        responseDto = new ShoppingListResponseDto();
+        responseDto.setId(1);
+        responseDto.setName("Weekly groceries");
+
+        when(shoppingListService.getShoppingListVersion(1)).thenReturn(ShoppingListVersionDto.builder()
+                .id(1)
+                .contentVersion(7L)
+                .lastModifiedDate(LocalDateTime.of(2024, 5, 1, 12, 0))
+                .build());
+    }
+
+    @Test
+    void getShoppingListById_ReturnsETagAndLastModified() throws Exception {
+        when(shoppingListService.getShoppingListById(1)).thenReturn(responseDto);
+
+        mockMvc.perform(get("/api/shopping-lists/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-7\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$.name").value("Weekly groceries"));
+    }
+
+    @Test
+    void getShoppingListById_MatchingETag_ReturnsNotModifiedWithoutLoadingList() throws Exception {
+        mockMvc.perform(get("/api/shopping-lists/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(shoppingListService, never()).getShoppingListById(1);
+    }
+
+    @Test
+    void getShoppingListById_StaleETag_ReturnsFreshBody() throws Exception {
+        when(shoppingListService.getShoppingListById(1)).thenReturn(responseDto);
+
+        mockMvc.perform(get("/api/shopping-lists/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-6\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-7\""));
+    }
+}
@@ -297,7 +297,7 @@ class WebControllerTest {
         return new ItemResponseDto(
                 1, "Milk", "2% Milk", 2.0, "liters",
                 3.99, 3.50, false, null, LocalDateTime.now(),
-                PriorityLevel.MEDIUM, "Buy organic", "Dairy", 1, 1
+                PriorityLevel.MEDIUM, "Buy organic", "Dairy", 1, 1, 0L
         );
     }
 
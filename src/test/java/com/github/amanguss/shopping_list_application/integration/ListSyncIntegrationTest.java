@@ -0,0 +1,143 @@
+package com.github.amanguss.shopping_list_application.integration;
+
+import com.github.amanguss.shopping_list_application.dto.sync.ShoppingListDeletedDto;
+import com.github.amanguss.shopping_list_application.entity.ListShare;
+import com.github.amanguss.shopping_list_application.entity.ShoppingList;
+import com.github.amanguss.shopping_list_application.entity.User;
+import com.github.amanguss.shopping_list_application.entity.enums.AccountStatus;
+import com.github.amanguss.shopping_list_application.entity.enums.ListStatus;
+import com.github.amanguss.shopping_list_application.entity.enums.Permission;
+import com.github.amanguss.shopping_list_application.repository.ListShareRepository;
+import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
+import com.github.amanguss.shopping_list_application.repository.UserRepository;
+import com.github.amanguss.shopping_list_application.service.ListShareService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:list-sync;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=" + ListSyncIntegrationTest.POOL_SIZE,
+        "spring.datasource.hikari.connection-timeout=500",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureMockMvc
+class ListSyncIntegrationTest {
+
+    static final int POOL_SIZE = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ShoppingListRepository shoppingListRepository;
+
+    @Autowired
+    private ListShareRepository listShareRepository;
+
+    @Autowired
+    private ListShareService listShareService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private User owner;
+    private User collaborator;
+    private ShoppingList shoppingList;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(userOf("owner"));
+        collaborator = userRepository.save(userOf("collaborator"));
+
+        shoppingList = new ShoppingList();
+        shoppingList.setName("Weekend groceries");
+        shoppingList.setCreationDate(LocalDateTime.now());
+        shoppingList.setStatus(ListStatus.ACTIVE);
+        shoppingList.setIsTemplate(false);
+        shoppingList.setOwner(owner);
+        shoppingList = shoppingListRepository.save(shoppingList);
+    }
+
+    @Test
+    void openSubscriptions_DoNotHoldPooledConnections() throws Exception {
+        for (int i = 0; i < POOL_SIZE * 3; i++) {
+            mockMvc.perform(get("/api/shopping-lists/{id}/events", shoppingList.getId())
+                            .sessionAttr("userId", owner.getId()))
+                    .andExpect(request().asyncStarted());
+        }
+
+        mockMvc.perform(get("/api/shopping-lists/{id}", shoppingList.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Weekend groceries"));
+    }
+
+    @Test
+    void expiredShare_ClosesCollaboratorSubscription() throws Exception {
+        ListShare share = new ListShare();
+        share.setShoppingList(shoppingList);
+        share.setSharedBy(owner);
+        share.setSharedTo(collaborator);
+        share.setPermission(Permission.VIEW);
+        share.setSharedDate(LocalDateTime.now());
+        share.setIsActive(true);
+        share = listShareRepository.save(share);
+
+        MvcResult collaboratorStream = mockMvc.perform(get("/api/shopping-lists/{id}/events", shoppingList.getId())
+                        .sessionAttr("userId", collaborator.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult ownerStream = mockMvc.perform(get("/api/shopping-lists/{id}/events", shoppingList.getId())
+                        .sessionAttr("userId", owner.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        listShareService.expireShare(share.getId());
+
+        assertDoesNotThrow(() -> collaboratorStream.getAsyncResult(2000));
+        assertThrows(IllegalStateException.class, () -> ownerStream.getAsyncResult(200));
+    }
+
+    @Test
+    void deletedList_CompletesSubscriptionsWithDeletedEvent() throws Exception {
+        MvcResult ownerStream = mockMvc.perform(get("/api/shopping-lists/{id}/events", shoppingList.getId())
+                        .sessionAttr("userId", owner.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        eventPublisher.publishEvent(new ShoppingListDeletedDto(shoppingList.getId()));
+
+        assertDoesNotThrow(() -> ownerStream.getAsyncResult(2000));
+        assertTrue(ownerStream.getResponse().getContentAsString().contains("event:deleted"));
+    }
+
+    private User userOf(String firstName) {
+        User user = new User();
+        user.setFirstName(firstName);
+        user.setLastName("Doe");
+        user.setEmail(firstName + "-" + UUID.randomUUID() + "@example.com");
+        user.setPassword("password");
+        user.setRegistrationDate(LocalDateTime.now());
+        user.setAccountStatus(AccountStatus.ACTIVE);
+        return user;
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.amanguss.shopping_list_application.metrics;
+
+import com.github.amanguss.shopping_list_application.exception.ResourceNotFoundException;
+import com.github.amanguss.shopping_list_application.repository.CategoryRepository;
+import com.github.amanguss.shopping_list_application.service.CategoryService;
+import com.github.amanguss.shopping_list_application.service.impl.CategoryCatalog;
+import com.github.amanguss.shopping_list_application.service.impl.CategoryServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceMetricsAspectTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CategoryService categoryService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new CategoryServiceImpl(categoryRepository,
+                new CategoryCatalog(categoryRepository)));
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        categoryService = factory.getProxy();
+    }
+
+    @Test
+    void record_SuccessfulCall_RecordsTimer() {
+        when(categoryRepository.findAllOrderByDisplayOrderAndName()).thenReturn(List.of());
+
+        categoryService.getAllCategories();
+
+        assertEquals(1, meterRegistry.get("service.method")
+                .tag("class", "CategoryServiceImpl")
+                .tag("method", "getAllCategories")
+                .tag("route", RequestRoute.NONE)
+                .tag("exception", "none")
+                .timer().count());
+    }
+
+    @Test
+    void record_FailedCall_RecordsErrorCounter() {
+        when(categoryRepository.findById(1)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> categoryService.getCategoryById(1));
+
+        assertEquals(1.0, meterRegistry.get("service.method.errors")
+                .tag("method", "getCategoryById")
+                .tag("exception", "ResourceNotFoundException")
+                .counter().count());
+        assertEquals(1, meterRegistry.get("service.method")
+                .tag("method", "getCategoryById")
+                .tag("exception", "ResourceNotFoundException")
+                .timer().count());
+    }
+}
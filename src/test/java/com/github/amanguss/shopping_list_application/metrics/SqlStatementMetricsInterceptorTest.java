@@ -0,0 +1,48 @@
+package com.github.amanguss.shopping_list_application.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementMetricsInterceptor interceptor;
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        interceptor = new SqlStatementMetricsInterceptor(beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void afterConcurrentHandlingStarted_ClearsCounterOnReleasedThread() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/shopping-lists/1/events");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Runnable task = () -> { };
+
+        interceptor.preHandle(request, response, null);
+        counter.inspect("select 1");
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+
+        assertSame(task, SqlStatementCounter.propagate(task));
+
+        interceptor.preHandle(request, response, null);
+        counter.inspect("select 1");
+        interceptor.afterCompletion(request, response, null, null);
+
+        DistributionSummary summary = meterRegistry.get("http.server.requests.sql.statements").summary();
+        assertEquals(1, summary.count());
+        assertEquals(1.0, summary.totalAmount());
+    }
+}
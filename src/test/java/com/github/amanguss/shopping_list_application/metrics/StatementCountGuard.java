@@ -0,0 +1,27 @@
+package com.github.amanguss.shopping_list_application.metrics;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class StatementCountGuard {
+
+    private StatementCountGuard() {
+    }
+
+    public static <T> T assertMaxStatements(int maxStatements, Supplier<T> call) {
+        SqlStatementCounter.start();
+        T result;
+        int executed;
+        try {
+            result = call.get();
+        } finally {
+            executed = SqlStatementCounter.stop();
+        }
+
+        int statements = executed;
+        assertTrue(statements <= maxStatements,
+                () -> "Expected at most " + maxStatements + " SQL statements but " + statements + " were executed");
+        return result;
+    }
+}
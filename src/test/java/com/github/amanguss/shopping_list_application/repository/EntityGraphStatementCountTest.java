@@ -0,0 +1,145 @@
+package com.github.amanguss.shopping_list_application.repository;
+
+import com.github.amanguss.shopping_list_application.dto.listShare.ListShareResponseDto;
+import com.github.amanguss.shopping_list_application.dto.userSession.UserSessionResponseDto;
+import com.github.amanguss.shopping_list_application.entity.ListShare;
+import com.github.amanguss.shopping_list_application.entity.ShoppingList;
+import com.github.amanguss.shopping_list_application.entity.User;
+import com.github.amanguss.shopping_list_application.entity.UserSession;
+import com.github.amanguss.shopping_list_application.entity.enums.AccountStatus;
+import com.github.amanguss.shopping_list_application.entity.enums.ListStatus;
+import com.github.amanguss.shopping_list_application.entity.enums.Permission;
+import com.github.amanguss.shopping_list_application.service.ListShareService;
+import com.github.amanguss.shopping_list_application.service.UserSessionService;
+import com.github.amanguss.shopping_list_application.service.impl.ListShareServiceImpl;
+import com.github.amanguss.shopping_list_application.service.impl.UserSessionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.github.amanguss.shopping_list_application.metrics.StatementCountGuard.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({ListShareServiceImpl.class, UserSessionServiceImpl.class})
+class EntityGraphStatementCountTest {
+
+    private static final int SHARES = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ListShareService listShareService;
+
+    @Autowired
+    private UserSessionService userSessionService;
+
+    private User owner;
+    private User member;
+    private ShoppingList shoppingList;
+
+    @BeforeEach
+    void setUp() {
+        owner = entityManager.persist(userOf("owner"));
+        member = entityManager.persist(userOf("member"));
+        shoppingList = entityManager.persist(listOf(owner, "Household"));
+
+        for (int i = 0; i < SHARES; i++) {
+            User sharedTo = entityManager.persist(userOf("guest" + i));
+            entityManager.persist(shareOf(shoppingList, owner, sharedTo));
+
+            ShoppingList guestList = entityManager.persist(listOf(sharedTo, "Guest list " + i));
+            entityManager.persist(shareOf(guestList, sharedTo, member));
+
+            entityManager.persist(sessionOf(member, "token-" + i));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getSharesByShoppingList_FetchesAssociationsInOneQuery() {
+        List<ListShareResponseDto> shares = assertMaxStatements(2,
+                () -> listShareService.getSharesByShoppingList(shoppingList.getId()));
+
+        assertEquals(SHARES, shares.size());
+    }
+
+    @Test
+    void getSharesReceivedByUser_FetchesAssociationsInOneQuery() {
+        List<ListShareResponseDto> shares = assertMaxStatements(2,
+                () -> listShareService.getSharesReceivedByUser(member.getId()));
+
+        assertEquals(SHARES, shares.size());
+        assertTrue(shares.stream().allMatch(share -> share.getSharedToUserName().equals("member Doe")));
+    }
+
+    @Test
+    void getActiveSessionsByUser_FetchesUserInOneQuery() {
+        List<UserSessionResponseDto> sessions = assertMaxStatements(2,
+                () -> userSessionService.getActiveSessionsByUser(member.getId()));
+
+        assertEquals(SHARES, sessions.size());
+    }
+
+    @Test
+    void getSessionByToken_FetchesUserInOneQuery() {
+        UserSessionResponseDto session = assertMaxStatements(1,
+                () -> userSessionService.getSessionByToken("token-7"));
+
+        assertEquals("member Doe", session.getUserName());
+    }
+
+    private User userOf(String firstName) {
+        User user = new User();
+        user.setFirstName(firstName);
+        user.setLastName("Doe");
+        user.setEmail(firstName + "@example.com");
+        user.setPassword("password");
+        user.setRegistrationDate(LocalDateTime.now());
+        user.setAccountStatus(AccountStatus.ACTIVE);
+        return user;
+    }
+
+    private ShoppingList listOf(User listOwner, String name) {
+        ShoppingList list = new ShoppingList();
+        list.setName(name);
+        list.setCreationDate(LocalDateTime.now());
+        list.setStatus(ListStatus.ACTIVE);
+        list.setIsTemplate(false);
+        list.setOwner(listOwner);
+        return list;
+    }
+
+    private ListShare shareOf(ShoppingList list, User sharedBy, User sharedTo) {
+        ListShare share = new ListShare();
+        share.setPermission(Permission.VIEW);
+        share.setSharedDate(LocalDateTime.now());
+        share.setIsActive(true);
+        share.setShoppingList(list);
+        share.setSharedBy(sharedBy);
+        share.setSharedTo(sharedTo);
+        return share;
+    }
+
+    private UserSession sessionOf(User user, String token) {
+        UserSession session = new UserSession();
+        session.setSessionToken(token);
+        session.setLoginTime(LocalDateTime.now());
+        session.setLastActivityTime(LocalDateTime.now());
+        session.setIsActive(true);
+        session.setUser(user);
+        return session;
+    }
+}
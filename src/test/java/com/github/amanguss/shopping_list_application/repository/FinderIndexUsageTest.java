@@ -0,0 +1,131 @@
+package com.github.amanguss.shopping_list_application.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class FinderIndexUsageTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (user_id, first_name, last_name, email_address, password_hash, " +
+                "registration_date, account_status) " +
+                "SELECT g, 'First', 'Last', 'user' || g || '@example.com', 'hash', now(), 'ACTIVE' " +
+                "FROM generate_series(1, 200) g");
+        jdbcTemplate.update("INSERT INTO categories (category_id, category_name, creation_date) VALUES (1, 'Groceries', now())");
+        jdbcTemplate.update("INSERT INTO shopping_lists (list_id, list_name, creation_date, is_template, owner_user_id) " +
+                "SELECT g, 'List ' || g, now() - g * interval '1 minute', false, g % 200 + 1 " +
+                "FROM generate_series(1, 4000) g");
+        jdbcTemplate.update("INSERT INTO items (item_id, item_name, is_purchased, added_date, list_id, category_id) " +
+                "SELECT g, 'Item ' || g, g % 2 = 0, now() - g * interval '1 second', g % 4000 + 1, 1 " +
+                "FROM generate_series(1, 40000) g");
+        jdbcTemplate.update("INSERT INTO list_shares (share_id, shared_date, expiration_date, is_active, list_id, " +
+                "shared_by_user_id, shared_with_user_id) " +
+                "SELECT g, now() - g * interval '1 minute', now() + (g - 50) * interval '1 hour', true, g % 4000 + 1, " +
+                "g % 200 + 1, (g + 1) % 200 + 1 " +
+                "FROM generate_series(1, 20000) g");
+        jdbcTemplate.update("INSERT INTO user_sessions (session_id, session_token, is_active, user_id, login_timestamp) " +
+                "SELECT g, 'token-' || g, g % 10 = 0, g % 200 + 1, now() FROM generate_series(1, 20000) g");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void shoppingListsByOwner_UseOwnerCreationIndex() {
+        assertUsesIndex("SELECT * FROM shopping_lists WHERE owner_user_id = 7 ORDER BY creation_date DESC, list_id DESC",
+                "idx_shopping_lists_owner_creation");
+    }
+
+    @Test
+    void itemsByShoppingListAndPurchased_UseListPurchasedAddedIndex() {
+        assertUsesIndex("SELECT * FROM items WHERE list_id = 7 AND is_purchased = false ORDER BY added_date DESC",
+                "idx_items_list_purchased_added");
+    }
+
+    @Test
+    void activeSharesBySharedTo_UseSharedToActiveDateIndex() {
+        assertUsesIndex("SELECT * FROM list_shares WHERE shared_with_user_id = 7 AND is_active = true " +
+                "ORDER BY shared_date DESC", "idx_list_shares_shared_to_active_date");
+    }
+
+    @Test
+    void expiredActiveShares_UseExpirationActiveIndex() {
+        assertUsesIndex("SELECT share_id FROM list_shares WHERE expiration_date < now() AND is_active = true " +
+                "ORDER BY share_id LIMIT 1000", "idx_list_shares_expiration_active");
+    }
+
+    @Test
+    void activeSessionByToken_UsesIndex() {
+        assertUsesIndex("SELECT * FROM user_sessions WHERE session_token = 'token-70' AND is_active = true", null);
+    }
+
+    @Test
+    void sessionsByUser_UseUserLoginIndex() {
+        assertUsesIndex("SELECT * FROM user_sessions WHERE user_id = 7 ORDER BY login_timestamp DESC",
+                "idx_user_sessions_user_login");
+    }
+
+    @Test
+    void archivableSessions_UseInactiveLogoutIndex() {
+        jdbcTemplate.update("UPDATE user_sessions SET logout_timestamp = now() - session_id * interval '1 hour' " +
+                "WHERE is_active = false");
+        jdbcTemplate.execute("ANALYZE user_sessions");
+
+        assertUsesIndex("SELECT session_id FROM user_sessions WHERE is_active = false " +
+                "AND logout_timestamp < now() - interval '30 days' ORDER BY logout_timestamp LIMIT 1000",
+                "idx_user_sessions_inactive_logout");
+    }
+
+    @Test
+    void itemNameContains_UsesTrigramIndex() {
+        assertUsesIndex("SELECT * FROM items WHERE lower(item_name) LIKE '%' || lower('Item 3172') || '%'",
+                "idx_items_name_trgm");
+    }
+
+    @Test
+    void userLastNameContains_UsesTrigramIndex() {
+        jdbcTemplate.update("UPDATE users SET last_name = 'Lastname' || user_id");
+        jdbcTemplate.execute("ANALYZE users");
+
+        assertUsesIndex("SELECT * FROM users WHERE lower(last_name) LIKE '%' || lower('name17') || '%'",
+                "idx_users_last_name_trgm");
+    }
+
+    private void assertUsesIndex(String sql, String indexName) {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        String text = String.join("\n", plan);
+
+        assertFalse(text.contains("Seq Scan"), () -> "Sequential scan for: " + sql + "\n" + text);
+        assertTrue(text.contains("Index"), () -> "No index used for: " + sql + "\n" + text);
+        if (indexName != null) {
+            assertTrue(text.contains(indexName), () -> "Expected " + indexName + " for: " + sql + "\n" + text);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.amanguss.shopping_list_application.repository;
+
+import com.github.amanguss.shopping_list_application.entity.enums.RollupDimension;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupPeriod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class SpendRollupRepositoryTest {
+
+    private static final int OWNER_ID = 1;
+    private static final String PURCHASED = "i.is_purchased = true AND i.purchase_date IS NOT NULL " +
+            "AND i.actual_price IS NOT NULL ";
+    private static final Map<RollupDimension, String> DIMENSION_COLUMNS = Map.of(
+            RollupDimension.LIST, "i.list_id",
+            RollupDimension.OWNER, "sl.owner_user_id",
+            RollupDimension.CATEGORY, "i.category_id");
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private SpendRollupRepository spendRollupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (user_id, first_name, last_name, email_address, password_hash, " +
+                "registration_date, account_status) " +
+                "SELECT g, 'First', 'Last', 'user' || g || '@example.com', 'hash', now(), 'ACTIVE' " +
+                "FROM generate_series(1, 2) g");
+        jdbcTemplate.update("INSERT INTO categories (category_id, category_name, creation_date) " +
+                "SELECT g, 'Category ' || g, now() FROM generate_series(1, 2) g");
+        jdbcTemplate.update("INSERT INTO shopping_lists (list_id, list_name, creation_date, is_template, owner_user_id) " +
+                "SELECT g, 'List ' || g, now(), false, CASE WHEN g = 3 THEN 2 ELSE 1 END FROM generate_series(1, 3) g");
+        jdbcTemplate.update("INSERT INTO items (item_id, item_name, is_purchased, added_date, purchase_date, " +
+                "actual_price, quantity, list_id, category_id) " +
+                "SELECT g, 'Item ' || g, g % 4 <> 0, now(), " +
+                "CASE WHEN g % 4 <> 0 THEN timestamp '2024-01-01 08:00' + g * interval '7 hours' END, " +
+                "g % 17 + 0.25, CASE WHEN g % 5 = 0 THEN NULL ELSE g % 3 + 1 END, g % 3 + 1, g % 2 + 1 " +
+                "FROM generate_series(1, 300) g");
+    }
+
+    @Test
+    void rebuildForOwner_MatchesItemSums() {
+        spendRollupRepository.rebuildForOwner(OWNER_ID);
+
+        assertRollupsMatchItems(OWNER_ID);
+        assertEquals(0, rollupRows(2).size());
+    }
+
+    @Test
+    void addSpend_MergesPerItemDeltasIntoItemSums() {
+        jdbcTemplate.queryForList("SELECT sl.owner_user_id AS owner_id, i.list_id, i.category_id, " +
+                        "CAST(i.purchase_date AS date) AS purchased_on, i.actual_price * coalesce(i.quantity, 0) AS spent " +
+                        "FROM items i JOIN shopping_lists sl ON sl.list_id = i.list_id WHERE " + PURCHASED +
+                        "AND sl.owner_user_id = ?", OWNER_ID)
+                .forEach(purchase -> {
+                    Map<RollupDimension, Integer> dimensionIds = Map.of(
+                            RollupDimension.LIST, (Integer) purchase.get("list_id"),
+                            RollupDimension.OWNER, (Integer) purchase.get("owner_id"),
+                            RollupDimension.CATEGORY, (Integer) purchase.get("category_id"));
+                    dimensionIds.forEach((dimension, dimensionId) -> {
+                        for (RollupPeriod period : RollupPeriod.values()) {
+                            spendRollupRepository.addSpend(OWNER_ID, dimension.name(), dimensionId, period.name(),
+                                    period.bucketStart(((Date) purchase.get("purchased_on")).toLocalDate()),
+                                    ((Number) purchase.get("spent")).doubleValue(), 1);
+                        }
+                    });
+                });
+
+        assertRollupsMatchItems(OWNER_ID);
+    }
+
+    @Test
+    void subtractPurchasedItems_RemovesTheirContribution() {
+        spendRollupRepository.rebuildForOwner(OWNER_ID);
+        List<Integer> removed = jdbcTemplate.queryForList("SELECT item_id FROM items i WHERE " + PURCHASED +
+                "AND i.list_id = 1 AND i.item_id % 3 = 0", Integer.class);
+
+        spendRollupRepository.subtractPurchasedItems(removed);
+        jdbcTemplate.update("DELETE FROM items WHERE item_id IN (" +
+                String.join(",", removed.stream().map(String::valueOf).toList()) + ")");
+
+        assertFalse(removed.isEmpty());
+        assertRollupsMatchItems(OWNER_ID);
+    }
+
+    @Test
+    void subtractShoppingList_RemovesTheListContribution() {
+        spendRollupRepository.rebuildForOwner(OWNER_ID);
+
+        spendRollupRepository.subtractShoppingList(2);
+        jdbcTemplate.update("DELETE FROM items WHERE list_id = 2");
+
+        assertRollupsMatchItems(OWNER_ID);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM spend_rollups " +
+                "WHERE dimension = 'LIST' AND dimension_id = 2 AND purchase_count <> 0", Integer.class));
+    }
+
+    private void assertRollupsMatchItems(int ownerId) {
+        assertEquals(expectedRows(ownerId), rollupRows(ownerId));
+    }
+
+    private Set<String> expectedRows(int ownerId) {
+        Set<String> rows = new HashSet<>();
+        DIMENSION_COLUMNS.forEach((dimension, column) -> {
+            for (RollupPeriod period : RollupPeriod.values()) {
+                rows.addAll(jdbcTemplate.queryForList("SELECT '" + dimension + ":' || " + column + " || ':" +
+                        period + ":' || CAST(date_trunc('" + period.name().toLowerCase() + "', i.purchase_date) AS date) " +
+                        "|| ':' || round(CAST(sum(i.actual_price * coalesce(i.quantity, 0)) AS numeric), 2) " +
+                        "|| ':' || count(*) " +
+                        "FROM items i JOIN shopping_lists sl ON sl.list_id = i.list_id WHERE " + PURCHASED +
+                        "AND sl.owner_user_id = ? GROUP BY " + column + ", date_trunc('" +
+                        period.name().toLowerCase() + "', i.purchase_date)", String.class, ownerId));
+            }
+        });
+        return rows;
+    }
+
+    private Set<String> rollupRows(int ownerId) {
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT dimension || ':' || dimension_id || ':' || period " +
+                "|| ':' || bucket_start || ':' || round(CAST(spent_total AS numeric), 2) || ':' || purchase_count " +
+                "FROM spend_rollups WHERE owner_id = ? AND purchase_count <> 0", String.class, ownerId));
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.amanguss.shopping_list_application.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = markedDataSource("routing_primary", "primary");
+        DataSource replica = markedDataSource("routing_replica", "replica");
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, Duration.ofSeconds(5)));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.clear();
+    }
+
+    @Test
+    void readOnlyTransaction_RoutesToReplica() {
+        assertEquals("replica", readOnly.execute(status -> marker()));
+    }
+
+    @Test
+    void readWriteTransaction_RoutesToPrimary() {
+        assertEquals("primary", readWrite.execute(status -> marker()));
+    }
+
+    @Test
+    void noTransaction_RoutesToPrimary() {
+        assertEquals("primary", marker());
+    }
+
+    @Test
+    void readAfterCommittedWrite_RoutesToPrimary() {
+        readWrite.executeWithoutResult(status -> marker());
+
+        assertTrue(ReplicaRoutingContext.isPinnedToPrimary());
+        assertEquals("primary", readOnly.execute(status -> marker()));
+    }
+
+    @Test
+    void readAfterRolledBackWrite_RoutesToReplica() {
+        readWrite.executeWithoutResult(status -> {
+            marker();
+            status.setRollbackOnly();
+        });
+
+        assertFalse(ReplicaRoutingContext.isPinnedToPrimary());
+        assertEquals("replica", readOnly.execute(status -> marker()));
+    }
+
+    @Test
+    void propagate_CarriesPinToAnotherThread() throws InterruptedException {
+        ReplicaRoutingContext.pinToPrimaryUntil(System.currentTimeMillis() + 5000);
+        String[] routed = new String[1];
+
+        Thread worker = new Thread(ReplicaRoutingContext.propagate(() -> routed[0] = readOnly.execute(status -> marker())));
+        worker.start();
+        worker.join();
+
+        assertEquals("primary", routed[0]);
+    }
+
+    private String marker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static DataSource markedDataSource(String database, String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM marker");
+        jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
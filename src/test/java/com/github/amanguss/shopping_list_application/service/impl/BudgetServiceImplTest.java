@@ -1,24 +1,31 @@
 package com.github.amanguss.shopping_list_application.service.impl;
 
+import com.github.amanguss.shopping_list_application.dto.budget.BudgetAlertDto;
 import com.github.amanguss.shopping_list_application.dto.budget.BudgetCreateDto;
 import com.github.amanguss.shopping_list_application.dto.budget.BudgetResponseDto;
+import com.github.amanguss.shopping_list_application.dto.spend.SpendBucketDto;
 import com.github.amanguss.shopping_list_application.entity.Budget;
 import com.github.amanguss.shopping_list_application.entity.ShoppingList;
 import com.github.amanguss.shopping_list_application.entity.User;
 import com.github.amanguss.shopping_list_application.entity.enums.Period;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupDimension;
+import com.github.amanguss.shopping_list_application.entity.enums.RollupPeriod;
 import com.github.amanguss.shopping_list_application.exception.ResourceNotFoundException;
 import com.github.amanguss.shopping_list_application.exception.ValidationException;
 import com.github.amanguss.shopping_list_application.repository.BudgetRepository;
-import com.github.amanguss.shopping_list_application.repository.ItemRepository;
 import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
+import com.github.amanguss.shopping_list_application.service.SpendRollupService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,7 +42,10 @@ class BudgetServiceImplTest {
     private ShoppingListRepository shoppingListRepository;
 
     @Mock
-    private ItemRepository itemRepository;
+    private BudgetThresholdEvaluator budgetThresholds;
+
+    @Mock
+    private SpendRollupService spendRollupService;
 
     @InjectMocks
     private BudgetServiceImpl budgetService;
@@ -74,10 +84,10 @@ class BudgetServiceImplTest {
 
     @Test
     void createBudget_Success() {
-        when(shoppingListRepository.findById(1)).thenReturn(Optional.of(shoppingList));
+        when(shoppingListRepository.lockById(1)).thenReturn(Optional.of(shoppingList));
         when(budgetRepository.findByShoppingList(shoppingList)).thenReturn(Optional.empty());
         when(budgetRepository.save(any(Budget.class))).thenReturn(budget);
-        when(itemRepository.calculateTotalSpentByShoppingList(shoppingList)).thenReturn(500.0);
+        shoppingList.setSpentTotal(500.0);
 
         BudgetResponseDto result = budgetService.createBudget(1, createDto);
 
@@ -87,14 +97,15 @@ class BudgetServiceImplTest {
         assertEquals(Period.MONTHLY, result.getPeriod());
         assertTrue(result.getIsActive());
 
-        verify(shoppingListRepository).findById(1);
+        verify(shoppingListRepository).lockById(1);
         verify(budgetRepository).findByShoppingList(shoppingList);
         verify(budgetRepository).save(any(Budget.class));
+        verify(budgetThresholds).evaluate(1);
     }
 
     @Test
     void createBudget_ShoppingListNotFound_ThrowsResourceNotFoundException() {
-        when(shoppingListRepository.findById(1)).thenReturn(Optional.empty());
+        when(shoppingListRepository.lockById(1)).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
                 () -> budgetService.createBudget(1, createDto));
@@ -105,7 +116,7 @@ class BudgetServiceImplTest {
 
     @Test
     void createBudget_BudgetAlreadyExists_ThrowsValidationException() {
-        when(shoppingListRepository.findById(1)).thenReturn(Optional.of(shoppingList));
+        when(shoppingListRepository.lockById(1)).thenReturn(Optional.of(shoppingList));
         when(budgetRepository.findByShoppingList(shoppingList)).thenReturn(Optional.of(budget));
 
         ValidationException exception = assertThrows(ValidationException.class,
@@ -115,34 +126,63 @@ class BudgetServiceImplTest {
         verify(budgetRepository, never()).save(any(Budget.class));
     }
 
+    @Test
+    void updateBudget_LoweredLimit_FlagsBudgetFromThresholdCrossing() {
+        LocalDateTime crossedAt = LocalDateTime.now();
+        when(budgetRepository.findById(1)).thenReturn(Optional.of(budget));
+        when(budgetRepository.save(budget)).thenReturn(budget);
+        when(budgetThresholds.evaluate(1))
+                .thenReturn(Optional.of(new BudgetAlertDto(1, 1, true, 100.0, 250.0, crossedAt)));
+        shoppingList.setSpentTotal(250.0);
+        createDto.setLimit(100.0);
+
+        BudgetResponseDto result = budgetService.updateBudget(1, createDto);
+
+        assertTrue(result.getOverBudget());
+        assertEquals(crossedAt, result.getOverBudgetSince());
+        InOrder inOrder = inOrder(shoppingListRepository, budgetRepository, budgetThresholds);
+        inOrder.verify(shoppingListRepository).lockById(1);
+        inOrder.verify(budgetRepository).flush();
+        inOrder.verify(budgetThresholds).evaluate(1);
+    }
+
+    @Test
+    void getOverBudgetLists_ReadsFlaggedBudgets() {
+        budget.setIsOverBudget(true);
+        when(budgetRepository.findOverBudgetLists()).thenReturn(List.of(budget));
+
+        List<BudgetResponseDto> result = budgetService.getOverBudgetLists();
+
+        assertEquals(1, result.size());
+        assertTrue(result.get(0).getOverBudget());
+    }
+
     @Test
     void getCurrentSpent_Success() {
         when(budgetRepository.findById(1)).thenReturn(Optional.of(budget));
-        when(itemRepository.calculateTotalSpentByShoppingList(shoppingList)).thenReturn(750.0);
+        shoppingList.setSpentTotal(750.0);
 
         Double result = budgetService.getCurrentSpent(1);
 
         assertEquals(750.0, result);
         verify(budgetRepository, times(1)).findById(1);
-        verify(itemRepository, times(1)).calculateTotalSpentByShoppingList(shoppingList);
     }
 
     @Test
     void getRemainingBudget_Success() {
         when(budgetRepository.findById(1)).thenReturn(Optional.of(budget));
-        when(itemRepository.calculateTotalSpentByShoppingList(shoppingList)).thenReturn(300.0);
+        shoppingList.setSpentTotal(300.0);
 
         Double result = budgetService.getRemainingBudget(1);
 
         assertEquals(700.0, result);
         verify(budgetRepository, times(1)).findById(1);
-        verify(itemRepository, times(1)).calculateTotalSpentByShoppingList(shoppingList);
     }
 
     @Test
     void isOverBudget_True() {
         when(budgetRepository.findById(1)).thenReturn(Optional.of(budget));
-        when(itemRepository.calculateTotalSpentByShoppingList(shoppingList)).thenReturn(1200.0);
+        shoppingList.setSpentTotal(1200.0);
 
         boolean result = budgetService.isOverBudget(1);
 
@@ -153,7 +193,7 @@ class BudgetServiceImplTest {
     @Test
     void isOverBudget_False() {
         when(budgetRepository.findById(1)).thenReturn(Optional.of(budget));
-        when(itemRepository.calculateTotalSpentByShoppingList(shoppingList)).thenReturn(800.0);
+        shoppingList.setSpentTotal(800.0);
 
         boolean result = budgetService.isOverBudget(1);
 
@@ -161,10 +201,31 @@ class BudgetServiceImplTest {
         verify(budgetRepository, times(1)).findById(1);
     }
 
+    @Test
+    void getPeriodSpent_MonthlyBudget_ReadsCurrentMonthRollup() {
+        when(budgetRepository.findById(1)).thenReturn(Optional.of(budget));
+        when(spendRollupService.getSpend(1, RollupDimension.LIST, 1, RollupPeriod.MONTH, null))
+                .thenReturn(new SpendBucketDto(RollupPeriod.MONTH, LocalDate.now().withDayOfMonth(1), 120.0, 4));
+        shoppingList.setSpentTotal(750.0);
+
+        Double result = budgetService.getPeriodSpent(1);
+
+        assertEquals(120.0, result);
+    }
+
+    @Test
+    void getSpendHistory_PerListBudget_ThrowsValidationException() {
+        budget.setPeriod(Period.PER_LIST);
+        when(budgetRepository.findById(1)).thenReturn(Optional.of(budget));
+
+        assertThrows(ValidationException.class, () -> budgetService.getSpendHistory(1, 6));
+        verifyNoInteractions(spendRollupService);
+    }
+
     @Test
     void getBudgetById_Success() {
         when(budgetRepository.findById(1)).thenReturn(Optional.of(budget));
-        when(itemRepository.calculateTotalSpentByShoppingList(shoppingList)).thenReturn(400.0);
+        shoppingList.setSpentTotal(400.0);
 
         BudgetResponseDto result = budgetService.getBudgetById(1);
 
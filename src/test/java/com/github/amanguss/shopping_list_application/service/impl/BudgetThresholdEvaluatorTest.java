@@ -0,0 +1,113 @@
+package com.github.amanguss.shopping_list_application.service.impl;
+
+import com.github.amanguss.shopping_list_application.dto.budget.BudgetAlertDto;
+import com.github.amanguss.shopping_list_application.repository.BudgetRepository;
+import com.github.amanguss.shopping_list_application.repository.projection.BudgetThresholdState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BudgetThresholdEvaluatorTest {
+
+    @Mock
+    private BudgetRepository budgetRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private BudgetThresholdEvaluator budgetThresholds;
+
+    @Test
+    void evaluate_SpendCrossesLimit_FlagsBudgetAndPublishesAlert() {
+        when(budgetRepository.findThresholdStateByShoppingListId(1))
+                .thenReturn(Optional.of(new State(true, false, 120.0)));
+        when(budgetRepository.updateOverBudget(eq(7), eq(true), any(LocalDateTime.class))).thenReturn(1);
+
+        BudgetAlertDto alert = budgetThresholds.evaluate(1).orElseThrow();
+
+        assertTrue(alert.getOverBudget());
+        assertEquals(120.0, alert.getCurrentSpent());
+        verify(eventPublisher).publishEvent(alert);
+    }
+
+    @Test
+    void evaluate_SpendBackUnderLimit_ClearsFlag() {
+        when(budgetRepository.findThresholdStateByShoppingListId(1))
+                .thenReturn(Optional.of(new State(true, true, 80.0)));
+        when(budgetRepository.updateOverBudget(eq(7), eq(false), isNull())).thenReturn(1);
+
+        BudgetAlertDto alert = budgetThresholds.evaluate(1).orElseThrow();
+
+        assertFalse(alert.getOverBudget());
+        verify(eventPublisher).publishEvent(alert);
+    }
+
+    @Test
+    void evaluate_NoCrossing_SkipsUpdateAndEvent() {
+        when(budgetRepository.findThresholdStateByShoppingListId(1))
+                .thenReturn(Optional.of(new State(false, false, 500.0)));
+
+        assertTrue(budgetThresholds.evaluate(1).isEmpty());
+        verify(budgetRepository, never()).updateOverBudget(anyInt(), anyBoolean(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void evaluate_ConcurrentWriterAlreadyFlagged_DoesNotPublishTwice() {
+        when(budgetRepository.findThresholdStateByShoppingListId(1))
+                .thenReturn(Optional.of(new State(true, false, 120.0)));
+        when(budgetRepository.updateOverBudget(eq(7), eq(true), any(LocalDateTime.class))).thenReturn(0);
+
+        assertTrue(budgetThresholds.evaluate(1).isEmpty());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private record State(Boolean isActive, Boolean isOverBudget, Double spentTotal) implements BudgetThresholdState {
+
+        @Override
+        public Integer getBudgetId() {
+            return 7;
+        }
+
+        @Override
+        public Integer getShoppingListId() {
+            return 1;
+        }
+
+        @Override
+        public Double getLimit() {
+            return 100.0;
+        }
+
+        @Override
+        public Boolean getIsActive() {
+            return isActive;
+        }
+
+        @Override
+        public Boolean getIsOverBudget() {
+            return isOverBudget;
+        }
+
+        @Override
+        public Double getSpentTotal() {
+            return spentTotal;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.amanguss.shopping_list_application.service.impl;
+
+import com.github.amanguss.shopping_list_application.config.CacheConfig;
+import com.github.amanguss.shopping_list_application.dto.category.CategoryCreateDto;
+import com.github.amanguss.shopping_list_application.entity.Category;
+import com.github.amanguss.shopping_list_application.repository.CategoryRepository;
+import com.github.amanguss.shopping_list_application.repository.projection.CategoryItemCount;
+import com.github.amanguss.shopping_list_application.service.CategoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(CategoryServiceImplCacheTest.TestConfig.class)
+class CategoryServiceImplCacheTest {
+
+    @Configuration
+    @Import({CacheConfig.class, CategoryCatalog.class, CategoryServiceImpl.class})
+    static class TestConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfig.CATEGORIES, CacheConfig.CATEGORY);
+        }
+    }
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private CategoryRepository categoryRepository;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        category = new Category();
+        category.setId(1);
+        category.setName("Groceries");
+        category.setIsSystemCategory(false);
+        category.setCreationDate(LocalDateTime.now());
+        category.setDisplayOrder(1);
+    }
+
+    @Test
+    void getAllCategories_SecondCallServedFromCache() {
+        when(categoryRepository.findAllOrderByDisplayOrderAndName()).thenReturn(List.of(category));
+        when(categoryRepository.countItemsByCategoryIds(anyCollection()))
+                .thenReturn(List.of(itemCountOf(1, 2L)))
+                .thenReturn(List.of(itemCountOf(1, 5L)));
+
+        assertEquals(2, categoryService.getAllCategories().get(0).getItemCount());
+        assertEquals(5, categoryService.getAllCategories().get(0).getItemCount());
+
+        verify(categoryRepository, times(1)).findAllOrderByDisplayOrderAndName();
+    }
+
+    @Test
+    void updateCategory_EvictsListAndIdEntries() {
+        CategoryCreateDto dto = new CategoryCreateDto();
+        dto.setName("Groceries");
+        when(categoryRepository.findAllOrderByDisplayOrderAndName()).thenReturn(List.of(category));
+        when(categoryRepository.findById(1)).thenReturn(Optional.of(category));
+        when(categoryRepository.countItemsByCategory(any(Category.class))).thenReturn(0);
+        when(categoryRepository.countItemsByCategoryIds(anyCollection())).thenReturn(List.of());
+        when(categoryRepository.save(any(Category.class))).thenReturn(category);
+
+        categoryService.getAllCategories();
+        categoryService.getCategoryById(1);
+        categoryService.updateCategory(1, dto);
+        categoryService.getAllCategories();
+        categoryService.getCategoryById(1);
+
+        verify(categoryRepository, times(2)).findAllOrderByDisplayOrderAndName();
+        verify(categoryRepository, times(3)).findById(1);
+    }
+
+    @Test
+    void updateCategory_EvictsOnlyAfterCommit() {
+        CategoryCreateDto dto = new CategoryCreateDto();
+        dto.setName("Groceries");
+        when(categoryRepository.findById(1)).thenReturn(Optional.of(category));
+        when(categoryRepository.countItemsByCategory(any(Category.class))).thenReturn(0);
+        when(categoryRepository.countItemsByCategoryIds(anyCollection())).thenReturn(List.of());
+        when(categoryRepository.save(any(Category.class))).thenReturn(category);
+
+        categoryService.getCategoryById(1);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            categoryService.updateCategory(1, dto);
+            assertNotNull(cacheManager.getCache(CacheConfig.CATEGORY).get(1));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertNull(cacheManager.getCache(CacheConfig.CATEGORY).get(1));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private CategoryItemCount itemCountOf(Integer categoryId, Long itemCount) {
+        return new CategoryItemCount() {
+            @Override
+            public Integer getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public Long getItemCount() {
+                return itemCount;
+            }
+        };
+    }
+}
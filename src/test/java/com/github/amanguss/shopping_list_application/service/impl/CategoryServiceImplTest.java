@@ -5,6 +5,7 @@ import com.github.amanguss.shopping_list_application.dto.category.CategoryRespon
 import com.github.amanguss.shopping_list_application.entity.Category;
 import com.github.amanguss.shopping_list_application.exception.ValidationException;
 import com.github.amanguss.shopping_list_application.repository.CategoryRepository;
+import com.github.amanguss.shopping_list_application.repository.projection.CategoryItemCount;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,6 +28,9 @@ class CategoryServiceImplTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryCatalog categoryCatalog;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -82,8 +87,8 @@ class CategoryServiceImplTest {
 
     @Test
     void getCategoryById_Success() {
-        when(categoryRepository.findById(1)).thenReturn(Optional.of(category));
-        when(categoryRepository.countItemsByCategory(any(Category.class))).thenReturn(3);
+        when(categoryCatalog.getById(1)).thenReturn(CategoryCatalog.toRow(category));
+        when(categoryRepository.countItemsByCategoryIds(List.of(1))).thenReturn(List.of(itemCountOf(1, 3L)));
 
         CategoryResponseDto result = categoryService.getCategoryById(1);
 
@@ -92,7 +97,7 @@ class CategoryServiceImplTest {
         assertEquals("Groceries", result.getName());
         assertEquals(3, result.getItemCount());
 
-        verify(categoryRepository).findById(1);
+        verify(categoryCatalog).getById(1);
     }
 
     @Test
@@ -106,4 +111,18 @@ class CategoryServiceImplTest {
         assertEquals("Cannot delete system category", exception.getMessage());
         verify(categoryRepository, never()).deleteById(1);
     }
+
+    private CategoryItemCount itemCountOf(Integer categoryId, Long itemCount) {
+        return new CategoryItemCount() {
+            @Override
+            public Integer getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public Long getItemCount() {
+                return itemCount;
+            }
+        };
+    }
 }
@@ -1,26 +1,41 @@
 package com.github.amanguss.shopping_list_application.service.impl;
 
 import com.github.amanguss.shopping_list_application.dto.item.ItemCreateDto;
+import com.github.amanguss.shopping_list_application.dto.item.ItemPurchaseDto;
 import com.github.amanguss.shopping_list_application.dto.item.ItemResponseDto;
+import com.github.amanguss.shopping_list_application.dto.page.CursorPageResponseDto;
+import com.github.amanguss.shopping_list_application.dto.sync.ItemDeltaDto;
 import com.github.amanguss.shopping_list_application.entity.Category;
 import com.github.amanguss.shopping_list_application.entity.Item;
 import com.github.amanguss.shopping_list_application.entity.ShoppingList;
 import com.github.amanguss.shopping_list_application.entity.enums.PriorityLevel;
+import com.github.amanguss.shopping_list_application.exception.ConflictException;
+import com.github.amanguss.shopping_list_application.exception.ResourceNotFoundException;
+import com.github.amanguss.shopping_list_application.exception.ValidationException;
 import com.github.amanguss.shopping_list_application.repository.CategoryRepository;
 import com.github.amanguss.shopping_list_application.repository.ItemRepository;
 import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +50,15 @@ class ItemServiceImplTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BudgetThresholdEvaluator budgetThresholds;
+
+    @Mock
+    private SpendRollupRecorder spendRollups;
+
     @InjectMocks
     private ItemServiceImpl itemService;
 
@@ -94,6 +118,22 @@ class ItemServiceImplTest {
         verify(itemRepository).save(any(Item.class));
     }
 
+    @Test
+    void updateItem_StaleVersion_ThrowsConflictWithCurrentState() {
+        item.setVersion(3L);
+        createDto.setVersion(2L);
+        when(itemRepository.findById(1)).thenReturn(Optional.of(item));
+
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> itemService.updateItem(1, createDto));
+
+        ItemResponseDto current = assertInstanceOf(ItemResponseDto.class, exception.getCurrent());
+        assertEquals(3L, current.getVersion());
+        assertEquals("Milk", current.getName());
+        verify(itemRepository, never()).save(any(Item.class));
+        verifyNoInteractions(shoppingListRepository);
+    }
+
     @Test
     void markAsPurchased_Success() {
         when(itemRepository.findById(1)).thenReturn(Optional.of(item));
@@ -106,15 +146,187 @@ class ItemServiceImplTest {
         verify(itemRepository).save(any(Item.class));
     }
 
+    @Test
+    void markAsPurchased_AdjustsShoppingListTotals() {
+        item.setQuantity(2.0);
+        when(itemRepository.findById(1)).thenReturn(Optional.of(item));
+        when(itemRepository.save(any(Item.class))).thenReturn(item);
+
+        itemService.markAsPurchased(1, 4.0);
+
+        verify(shoppingListRepository).adjustTotals(1, 0, 1, 0.0, 8.0);
+        verify(budgetThresholds).evaluate(1);
+    }
+
+    @Test
+    void updateItemPriority_DoesNotEvaluateBudgetThreshold() {
+        when(itemRepository.findById(1)).thenReturn(Optional.of(item));
+        when(itemRepository.save(any(Item.class))).thenReturn(item);
+
+        itemService.updateItemPriority(1, PriorityLevel.HIGH);
+
+        verify(shoppingListRepository).bumpContentVersion(List.of(1));
+        verifyNoInteractions(budgetThresholds);
+    }
+
+    @Test
+    void deleteItem_RemovesItemFromShoppingListTotals() {
+        when(itemRepository.findById(1)).thenReturn(Optional.of(item));
+
+        itemService.deleteItem(1);
+
+        verify(itemRepository).delete(item);
+        verify(shoppingListRepository).adjustTotals(1, -1, 0, -3.50, 0.0);
+    }
+
+    @Test
+    void markAsPurchased_PublishesItemDeltaForShoppingList() {
+        when(itemRepository.findById(1)).thenReturn(Optional.of(item));
+        when(itemRepository.save(any(Item.class))).thenReturn(item);
+
+        ItemResponseDto result = itemService.markAsPurchased(1, 3.75);
+
+        verify(eventPublisher).publishEvent(new ItemDeltaDto(1, List.of(result), List.of()));
+    }
+
+    @Test
+    void deleteItem_PublishesDeletedItemId() {
+        when(itemRepository.findById(1)).thenReturn(Optional.of(item));
+
+        itemService.deleteItem(1);
+
+        verify(eventPublisher).publishEvent(new ItemDeltaDto(1, List.of(), List.of(1)));
+    }
+
     @Test
     void calculateTotalSpent_Success() {
+        shoppingList.setSpentTotal(25.50);
         when(shoppingListRepository.findById(1)).thenReturn(Optional.of(shoppingList));
-        when(itemRepository.calculateTotalSpentByShoppingList(shoppingList)).thenReturn(25.50);
 
         Double result = itemService.calculateTotalSpent(1);
 
         assertEquals(25.50, result);
         verify(shoppingListRepository).findById(1);
-        verify(itemRepository).calculateTotalSpentByShoppingList(shoppingList);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getItemPageByShoppingList_ReturnsCursorForNextPage() {
+        Item older = new Item();
+        older.setId(2);
+        older.setName("Bread");
+        older.setIsPurchased(false);
+        older.setAddedDate(item.getAddedDate().minusMinutes(1));
+        older.setShoppingList(shoppingList);
+        older.setCategory(category);
+
+        when(shoppingListRepository.findById(1)).thenReturn(Optional.of(shoppingList));
+        when(itemRepository.findPageByShoppingList(eq(shoppingList), any(LocalDateTime.class), any(Integer.class), any(Pageable.class)))
+                .thenReturn(List.of(item, older));
+
+        CursorPageResponseDto<ItemResponseDto> firstPage = itemService.getItemPageByShoppingList(1, null, 1);
+
+        assertEquals(1, firstPage.getContent().size());
+        assertTrue(firstPage.getHasNext());
+        assertNotNull(firstPage.getNextCursor());
+
+        itemService.getItemPageByShoppingList(1, firstPage.getNextCursor(), 1);
+
+        verify(itemRepository).findPageByShoppingList(shoppingList, item.getAddedDate(), item.getId(), Pageable.ofSize(2));
+    }
+
+    @Test
+    void getItemPageByShoppingList_InvalidCursor_ThrowsValidationException() {
+        when(shoppingListRepository.findById(1)).thenReturn(Optional.of(shoppingList));
+
+        assertThrows(ValidationException.class, () -> itemService.getItemPageByShoppingList(1, "not-a-cursor", 10));
+        verify(itemRepository, never()).findPageByShoppingList(any(), any(), any(), any());
+    }
+
+    @Test
+    void markItemsAsPurchased_AdjustsEachShoppingListOnce() {
+        Item bread = new Item();
+        bread.setId(2);
+        bread.setName("Bread");
+        bread.setQuantity(1.0);
+        bread.setEstimatedPrice(2.0);
+        bread.setIsPurchased(false);
+        bread.setShoppingList(shoppingList);
+        bread.setCategory(category);
+
+        when(itemRepository.findAllWithCategoryByIdIn(any())).thenReturn(List.of(bread, item));
+        when(itemRepository.saveAll(List.of(item, bread))).thenReturn(List.of(item, bread));
+
+        ItemPurchaseDto milkPurchase = new ItemPurchaseDto();
+        milkPurchase.setItemId(1);
+        milkPurchase.setActualPrice(4.0);
+        ItemPurchaseDto breadPurchase = new ItemPurchaseDto();
+        breadPurchase.setItemId(2);
+        breadPurchase.setActualPrice(2.5);
+
+        List<ItemResponseDto> result = itemService.markItemsAsPurchased(List.of(milkPurchase, breadPurchase));
+
+        assertEquals(List.of(1, 2), result.stream().map(ItemResponseDto::getId).toList());
+        assertTrue(item.getIsPurchased());
+        assertEquals(2.5, bread.getActualPrice());
+        verify(shoppingListRepository, times(1)).adjustTotals(anyInt(), anyInt(), anyInt(), anyDouble(), anyDouble());
+        verify(shoppingListRepository).adjustTotals(1, 0, 2, 0.0, 6.5);
+    }
+
+    @Test
+    void markItemsAsUnpurchased_LocksItemsAndListsInIdOrder() {
+        ShoppingList otherList = new ShoppingList();
+        otherList.setId(9);
+        Item other = new Item();
+        other.setId(7);
+        other.setName("Eggs");
+        other.setQuantity(1.0);
+        other.setIsPurchased(true);
+        other.setActualPrice(3.0);
+        other.setShoppingList(otherList);
+        other.setCategory(category);
+        item.setIsPurchased(true);
+        item.setActualPrice(4.0);
+
+        when(itemRepository.findAllWithCategoryByIdIn(any())).thenReturn(List.of(other, item));
+        when(itemRepository.saveAll(List.of(item, other))).thenReturn(List.of(item, other));
+
+        List<ItemResponseDto> result = itemService.markItemsAsUnpurchased(List.of(7, 1));
+
+        assertEquals(List.of(7, 1), result.stream().map(ItemResponseDto::getId).toList());
+        InOrder inOrder = inOrder(shoppingListRepository);
+        inOrder.verify(shoppingListRepository).adjustTotals(eq(1), anyInt(), anyInt(), anyDouble(), anyDouble());
+        inOrder.verify(shoppingListRepository).adjustTotals(eq(9), anyInt(), anyInt(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void deleteItems_MissingItem_ThrowsResourceNotFoundException() {
+        when(itemRepository.findAllWithCategoryByIdIn(any())).thenReturn(List.of(item));
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> itemService.deleteItems(List.of(1, 2)));
+
+        assertEquals("Item not found", exception.getMessage());
+        verify(itemRepository, never()).deleteAllInBatch(any());
+        verifyNoInteractions(shoppingListRepository);
+    }
+
+    @Test
+    void deleteAllPurchasedItems_DeletesInChunksAndRecalculatesTotals() {
+        List<Integer> firstChunk = IntStream.rangeClosed(1, 1000).boxed().toList();
+        List<Integer> lastChunk = List.of(1001, 1002);
+        when(shoppingListRepository.findById(1)).thenReturn(Optional.of(shoppingList));
+        when(itemRepository.findPurchasedItemIds(shoppingList, PageRequest.of(0, 1000)))
+                .thenReturn(firstChunk, lastChunk);
+        when(itemRepository.deletePurchasedItems(firstChunk)).thenReturn(1000);
+        when(itemRepository.deletePurchasedItems(lastChunk)).thenReturn(2);
+
+        int deleted = itemService.deleteAllPurchasedItems(1);
+
+        assertEquals(1002, deleted);
+        verify(itemRepository, times(2)).findPurchasedItemIds(shoppingList, PageRequest.of(0, 1000));
+        verify(itemRepository, never()).deleteAll(any());
+        verify(spendRollups).removePurchasedItems(firstChunk);
+        verify(spendRollups).removePurchasedItems(lastChunk);
+        verify(shoppingListRepository).recalculateTotals(1);
+    }
+}
@@ -2,6 +2,7 @@ package com.github.amanguss.shopping_list_application.service.impl;
 
 import com.github.amanguss.shopping_list_application.dto.listShare.ListShareCreateDto;
 import com.github.amanguss.shopping_list_application.dto.listShare.ListShareResponseDto;
+import com.github.amanguss.shopping_list_application.dto.sync.ShareRevokedDto;
 import com.github.amanguss.shopping_list_application.entity.ListShare;
 import com.github.amanguss.shopping_list_application.entity.ShoppingList;
 import com.github.amanguss.shopping_list_application.entity.User;
@@ -16,9 +17,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,6 +43,9 @@ class ListShareServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ListShareServiceImpl listShareService;
 
@@ -178,4 +188,40 @@ class ListShareServiceImplTest {
         verify(listShareRepository).save(listShare);
         assertFalse(listShare.getIsActive());
     }
-}
\ No newline at end of file
+
+    @Test
+    void cleanupExpiredShares_DeactivatesInChunks() {
+        List<Integer> fullChunk = IntStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList());
+        List<Integer> lastChunk = List.of(1001, 1002);
+        when(listShareRepository.findExpiredShareIds(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(fullChunk, lastChunk);
+        when(listShareRepository.deactivateShares(fullChunk)).thenReturn(1000);
+        when(listShareRepository.deactivateShares(lastChunk)).thenReturn(2);
+
+        int result = listShareService.cleanupExpiredShares();
+
+        assertEquals(1002, result);
+        verify(listShareRepository, times(2)).findExpiredShareIds(any(LocalDateTime.class), any(Pageable.class));
+        verify(listShareRepository, never()).save(any(ListShare.class));
+    }
+
+    @Test
+    void expireShare_PublishesRevokedAccess() {
+        when(listShareRepository.findById(1)).thenReturn(Optional.of(listShare));
+
+        listShareService.expireShare(1);
+
+        assertFalse(listShare.getIsActive());
+        verify(eventPublisher).publishEvent(new ShareRevokedDto(
+                listShare.getShoppingList().getId(), listShare.getSharedTo().getId()));
+    }
+
+    @Test
+    void cleanupExpiredShares_NothingExpired_ReturnsZero() {
+        when(listShareRepository.findExpiredShareIds(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        assertEquals(0, listShareService.cleanupExpiredShares());
+        verify(listShareRepository, never()).deactivateShares(any());
+    }
+}
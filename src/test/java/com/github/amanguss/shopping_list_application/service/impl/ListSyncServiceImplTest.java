@@ -0,0 +1,147 @@
+package com.github.amanguss.shopping_list_application.service.impl;
+
+import com.github.amanguss.shopping_list_application.config.ListChangeLogProperties;
+import com.github.amanguss.shopping_list_application.dto.item.ItemResponseDto;
+import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListResponseDto;
+import com.github.amanguss.shopping_list_application.dto.sync.ListChangeDto;
+import com.github.amanguss.shopping_list_application.dto.sync.ListChangesDto;
+import com.github.amanguss.shopping_list_application.entity.ListChange;
+import com.github.amanguss.shopping_list_application.entity.enums.ChangeOperation;
+import com.github.amanguss.shopping_list_application.repository.ListChangeRepository;
+import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
+import com.github.amanguss.shopping_list_application.repository.projection.ShoppingListVersion;
+import com.github.amanguss.shopping_list_application.service.ItemService;
+import com.github.amanguss.shopping_list_application.service.ShoppingListService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ListSyncServiceImplTest {
+
+    @Mock
+    private ShoppingListRepository shoppingListRepository;
+
+    @Mock
+    private ListChangeRepository listChangeRepository;
+
+    @Mock
+    private ShoppingListService shoppingListService;
+
+    @Mock
+    private ItemService itemService;
+
+    @Spy
+    private ListChangeLogProperties changeLogProperties =
+            new ListChangeLogProperties(Duration.ofDays(14), 3, 1000, 50, Duration.ZERO);
+
+    @InjectMocks
+    private ListSyncServiceImpl listSyncService;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void getChanges_CollapsesRepeatedChangesToLatestPerItem() {
+        when(listChangeRepository.findByShoppingListIdAndVersionGreaterThanOrderByVersionAscIdAsc(1, 4L, PageRequest.of(0, 4)))
+                .thenReturn(List.of(
+                        change(5L, ChangeOperation.ITEM_UPSERTED, 10, "{\"id\":10}"),
+                        change(6L, ChangeOperation.LIST_UPDATED, null, "{\"id\":1}"),
+                        change(7L, ChangeOperation.ITEM_DELETED, 10, null)));
+        when(shoppingListRepository.findVersionById(1)).thenReturn(Optional.of(new Version(7L, 2L)));
+
+        ListChangesDto result = listSyncService.getChanges(1, 4L);
+
+        assertFalse(result.getSnapshot());
+        assertEquals(7L, result.getVersion());
+        assertEquals(List.of(ChangeOperation.LIST_UPDATED, ChangeOperation.ITEM_DELETED),
+                result.getChanges().stream().map(ListChangeDto::getOperation).toList());
+        assertNull(result.getItems());
+        verifyNoInteractions(itemService, shoppingListService);
+    }
+
+    @Test
+    void getChanges_SinceBeforeCompactedVersion_ReturnsSnapshot() {
+        when(listChangeRepository.findByShoppingListIdAndVersionGreaterThanOrderByVersionAscIdAsc(eq(1), eq(2L), any()))
+                .thenReturn(List.of(change(9L, ChangeOperation.ITEM_UPSERTED, 10, "{\"id\":10}")));
+        when(shoppingListRepository.findVersionById(1)).thenReturn(Optional.of(new Version(9L, 5L)));
+        ShoppingListResponseDto shoppingList = ShoppingListResponseDto.builder().id(1).name("Groceries").build();
+        ItemResponseDto item = new ItemResponseDto();
+        item.setId(10);
+        when(shoppingListService.getShoppingListById(1)).thenReturn(shoppingList);
+        when(itemService.getItemsByShoppingList(1)).thenReturn(List.of(item));
+
+        ListChangesDto result = listSyncService.getChanges(1, 2L);
+
+        assertTrue(result.getSnapshot());
+        assertEquals(9L, result.getVersion());
+        assertSame(shoppingList, result.getShoppingList());
+        assertEquals(List.of(item), result.getItems());
+        assertTrue(result.getChanges().isEmpty());
+    }
+
+    @Test
+    void getChanges_TooManyChanges_ReturnsSnapshotWithoutReadingLogAgain() {
+        when(listChangeRepository.findByShoppingListIdAndVersionGreaterThanOrderByVersionAscIdAsc(eq(1), anyLong(), any()))
+                .thenReturn(List.of(
+                        change(1L, ChangeOperation.ITEM_UPSERTED, 10, "{}"),
+                        change(2L, ChangeOperation.ITEM_UPSERTED, 11, "{}"),
+                        change(3L, ChangeOperation.ITEM_UPSERTED, 12, "{}"),
+                        change(4L, ChangeOperation.ITEM_UPSERTED, 13, "{}")));
+        when(shoppingListRepository.findVersionById(1)).thenReturn(Optional.of(new Version(4L, 0L)));
+        when(itemService.getItemsByShoppingList(1)).thenReturn(List.of());
+
+        ListChangesDto result = listSyncService.getChanges(1, 0L);
+
+        assertTrue(result.getSnapshot());
+        assertEquals(4L, result.getVersion());
+        verify(listChangeRepository, times(1)).findByShoppingListIdAndVersionGreaterThanOrderByVersionAscIdAsc(any(), any(), any());
+    }
+
+    private ListChange change(Long version, ChangeOperation operation, Integer itemId, String payload) {
+        return new ListChange(version, 1, itemId, version, operation, payload, now);
+    }
+
+    private record Version(Long contentVersion, Long compactedVersion) implements ShoppingListVersion {
+
+        @Override
+        public Integer getListId() {
+            return 1;
+        }
+
+        @Override
+        public Long getContentVersion() {
+            return contentVersion;
+        }
+
+        @Override
+        public Long getCompactedVersion() {
+            return compactedVersion;
+        }
+
+        @Override
+        public LocalDateTime getLastModifiedDate() {
+            return null;
+        }
+    }
+}
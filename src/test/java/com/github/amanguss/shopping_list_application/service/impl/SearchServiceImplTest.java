@@ -0,0 +1,110 @@
+package com.github.amanguss.shopping_list_application.service.impl;
+
+import com.github.amanguss.shopping_list_application.dto.search.SearchResponseDto;
+import com.github.amanguss.shopping_list_application.dto.search.SearchResultDto;
+import com.github.amanguss.shopping_list_application.exception.ResourceNotFoundException;
+import com.github.amanguss.shopping_list_application.exception.ValidationException;
+import com.github.amanguss.shopping_list_application.repository.ItemRepository;
+import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
+import com.github.amanguss.shopping_list_application.repository.UserRepository;
+import com.github.amanguss.shopping_list_application.repository.projection.SearchMatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceImplTest {
+
+    @Mock
+    private ShoppingListRepository shoppingListRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private SearchServiceImpl searchService;
+
+    @Test
+    void search_ReturnsListAndItemMatches() {
+        when(userRepository.existsById(1)).thenReturn(true);
+        when(shoppingListRepository.searchAccessible(1, "milk", 20))
+                .thenReturn(List.of(matchOf(3, "Milk run", null, 3, 1.4)));
+        when(itemRepository.searchAccessible(1, "milk", 20))
+                .thenReturn(List.of(matchOf(7, "Oat milk", "Weekly", 3, 0.6)));
+
+        SearchResponseDto result = searchService.search(1, "  milk ", null);
+
+        assertEquals("milk", result.getQuery());
+        assertEquals(1, result.getShoppingLists().size());
+        assertEquals("SHOPPING_LIST", result.getShoppingLists().get(0).getType());
+        assertEquals("Milk run", result.getShoppingLists().get(0).getTitle());
+        assertEquals(1, result.getItems().size());
+        assertEquals("ITEM", result.getItems().get(0).getType());
+        assertEquals(3, result.getItems().get(0).getListId());
+    }
+
+    @Test
+    void search_UserNotFound_ThrowsResourceNotFoundException() {
+        when(userRepository.existsById(1)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> searchService.search(1, "milk", 10));
+        verify(shoppingListRepository, never()).searchAccessible(anyInt(), anyString(), anyInt());
+    }
+
+    @Test
+    void searchUsers_QueryTooShort_ThrowsValidationException() {
+        assertThrows(ValidationException.class, () -> searchService.searchUsers(" a ", 10));
+        verify(userRepository, never()).searchByName(anyString(), anyInt());
+    }
+
+    @Test
+    void searchUsers_LimitIsCapped() {
+        when(userRepository.searchByName("doe", 100)).thenReturn(List.of(matchOf(1, "John Doe", "john@example.com", null, 1.5)));
+
+        List<SearchResultDto> result = searchService.searchUsers("doe", 5000);
+
+        assertEquals(1, result.size());
+        assertEquals("USER", result.get(0).getType());
+        assertNull(result.get(0).getListId());
+    }
+
+    private SearchMatch matchOf(Integer id, String title, String detail, Integer listId, Double score) {
+        return new SearchMatch() {
+            @Override
+            public Integer getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getDetail() {
+                return detail;
+            }
+
+            @Override
+            public Integer getListId() {
+                return listId;
+            }
+
+            @Override
+            public Double getScore() {
+                return score;
+            }
+        };
+    }
+}
@@ -2,6 +2,7 @@ package com.github.amanguss.shopping_list_application.service.impl;
 
 import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListCreateDto;
 import com.github.amanguss.shopping_list_application.dto.shoppingList.ShoppingListResponseDto;
+import com.github.amanguss.shopping_list_application.dto.sync.ShoppingListDeletedDto;
 import com.github.amanguss.shopping_list_application.entity.ShoppingList;
 import com.github.amanguss.shopping_list_application.entity.User;
 import com.github.amanguss.shopping_list_application.entity.enums.AccountStatus;
@@ -11,12 +12,16 @@ import com.github.amanguss.shopping_list_application.exception.ResourceNotFoundE
 import com.github.amanguss.shopping_list_application.exception.ValidationException;
 import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
 import com.github.amanguss.shopping_list_application.repository.UserRepository;
+import com.github.amanguss.shopping_list_application.repository.projection.ShoppingListSummary;
+import com.github.amanguss.shopping_list_application.repository.projection.ShoppingListTotals;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -25,6 +30,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +43,12 @@ class ShoppingListServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SpendRollupRecorder spendRollups;
+
     @InjectMocks
     private ShoppingListServiceImpl shoppingListService;
 
@@ -77,8 +89,6 @@ class ShoppingListServiceImplTest {
         when(userRepository.findById(1)).thenReturn(Optional.of(user));
         when(shoppingListRepository.existsByNameAndOwner(anyString(), any(User.class))).thenReturn(false);
         when(shoppingListRepository.save(any(ShoppingList.class))).thenReturn(shoppingList);
-        when(shoppingListRepository.countItemsByShoppingList(any(ShoppingList.class))).thenReturn(0);
-        when(shoppingListRepository.countPurchasedItemsByShoppingList(any(ShoppingList.class))).thenReturn(0);
 
         ShoppingListResponseDto result = shoppingListService.createShoppingList(createDto, 1);
 
@@ -87,6 +97,7 @@ class ShoppingListServiceImplTest {
         assertEquals("Test Description", result.getDescription());
         assertEquals(ListStatus.ACTIVE, result.getStatus());
         assertFalse(result.getIsTemplate());
+        assertEquals(0, result.getTotalItems());
 
         verify(userRepository).findById(1);
         verify(shoppingListRepository).existsByNameAndOwner("Test List", user);
@@ -119,9 +130,7 @@ class ShoppingListServiceImplTest {
 
     @Test
     void getShoppingListById_Success() {
-        when(shoppingListRepository.findById(1)).thenReturn(Optional.of(shoppingList));
-        when(shoppingListRepository.countItemsByShoppingList(any(ShoppingList.class))).thenReturn(5);
-        when(shoppingListRepository.countPurchasedItemsByShoppingList(any(ShoppingList.class))).thenReturn(2);
+        when(shoppingListRepository.findSummaryById(1)).thenReturn(Optional.of(summaryOf(shoppingList, 5, 2)));
 
         ShoppingListResponseDto result = shoppingListService.getShoppingListById(1);
 
@@ -131,24 +140,36 @@ class ShoppingListServiceImplTest {
         assertEquals(5, result.getTotalItems());
         assertEquals(2, result.getPurchasedItems());
 
-        verify(shoppingListRepository).findById(1);
+        verify(shoppingListRepository).findSummaryById(1);
     }
 
     @Test
     void getShoppingListsByOwner_Success() {
         when(userRepository.findById(1)).thenReturn(Optional.of(user));
-        when(shoppingListRepository.findByOwnerOrderByCreationDateDesc(user)).thenReturn(Collections.singletonList(shoppingList));
-        when(shoppingListRepository.countItemsByShoppingList(any(ShoppingList.class))).thenReturn(0);
-        when(shoppingListRepository.countPurchasedItemsByShoppingList(any(ShoppingList.class))).thenReturn(0);
+        when(shoppingListRepository.findSummariesByOwner(user)).thenReturn(Collections.singletonList(summaryOf(shoppingList, 3, 1)));
 
         List<ShoppingListResponseDto> result = shoppingListService.getShoppingListsByOwner(1);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("Test List", result.get(0).getName());
+        assertEquals(3, result.get(0).getTotalItems());
+        assertEquals(1, result.get(0).getPurchasedItems());
 
         verify(userRepository).findById(1);
-        verify(shoppingListRepository).findByOwnerOrderByCreationDateDesc(user);
+        verify(shoppingListRepository).findSummariesByOwner(user);
+    }
+
+    @Test
+    void getAccessibleLists_Success() {
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(shoppingListRepository.findAccessibleSummaries(user)).thenReturn(Collections.singletonList(summaryOf(shoppingList, 4, 4)));
+
+        List<ShoppingListResponseDto> result = shoppingListService.getAccessibleLists(1);
+
+        assertEquals(1, result.size());
+        assertEquals(4, result.get(0).getTotalItems());
+        assertEquals(4, result.get(0).getPurchasedItems());
     }
 
     @Test
@@ -156,8 +177,6 @@ class ShoppingListServiceImplTest {
         when(shoppingListRepository.findById(1)).thenReturn(Optional.of(shoppingList));
         when(shoppingListRepository.existsByNameAndOwner("New List", user)).thenReturn(false);
         when(shoppingListRepository.save(any(ShoppingList.class))).thenReturn(shoppingList);
-        when(shoppingListRepository.countItemsByShoppingList(any(ShoppingList.class))).thenReturn(0);
-        when(shoppingListRepository.countPurchasedItemsByShoppingList(any(ShoppingList.class))).thenReturn(0);
 
         ShoppingListResponseDto result = shoppingListService.duplicateShoppingList(1, "New List");
 
@@ -166,6 +185,23 @@ class ShoppingListServiceImplTest {
         verify(shoppingListRepository).save(any(ShoppingList.class));
     }
 
+    @Test
+    void updateShoppingListStatus_ReturnsSavedLastModifiedDate() {
+        LocalDateTime previous = shoppingList.getLastModifiedDate().minusDays(1);
+        shoppingList.setLastModifiedDate(previous);
+        when(shoppingListRepository.findById(1)).thenReturn(Optional.of(shoppingList));
+        when(shoppingListRepository.save(shoppingList)).thenReturn(shoppingList);
+
+        ShoppingListResponseDto result = shoppingListService.updateShoppingListStatus(1, ListStatus.ARCHIVED);
+
+        assertEquals(ListStatus.ARCHIVED, result.getStatus());
+        assertTrue(result.getLastModifiedDate().isAfter(previous));
+        assertEquals(shoppingList.getLastModifiedDate(), result.getLastModifiedDate());
+        verify(shoppingListRepository).incrementContentVersion(1);
+        verify(shoppingListRepository, never()).bumpContentVersion(any());
+        verify(eventPublisher).publishEvent(result);
+    }
+
     @Test
     void deleteShoppingList_Success() {
         when(shoppingListRepository.existsById(1)).thenReturn(true);
@@ -173,6 +209,54 @@ class ShoppingListServiceImplTest {
         assertDoesNotThrow(() -> shoppingListService.deleteShoppingList(1));
 
         verify(shoppingListRepository).existsById(1);
+        verify(spendRollups).removeShoppingList(1);
         verify(shoppingListRepository).deleteById(1);
+        verify(eventPublisher).publishEvent(new ShoppingListDeletedDto(1));
+    }
+
+    @Test
+    void reconcileItemTotals_RecalculatesOnlyDriftedLists() {
+        ShoppingListTotals consistent = totalsOf(1, 2, 2, 5.0, 5.0);
+        ShoppingListTotals drifted = totalsOf(2, 3, 4, 10.0, 12.5);
+        when(shoppingListRepository.findTotalsPage(anyInt(), any(Pageable.class))).thenReturn(List.of(consistent, drifted));
+
+        int result = shoppingListService.reconcileItemTotals();
+
+        assertEquals(1, result);
+        verify(shoppingListRepository).recalculateTotals(2);
+        verify(shoppingListRepository, never()).recalculateTotals(1);
+    }
+
+    private ShoppingListSummary summaryOf(ShoppingList list, int totalItems, int purchasedItems) {
+        return new ShoppingListSummary() {
+            @Override
+            public ShoppingList getShoppingList() {
+                return list;
+            }
+
+            @Override
+            public Integer getTotalItems() {
+                return totalItems;
+            }
+
+            @Override
+            public Integer getPurchasedItems() {
+                return purchasedItems;
+            }
+        };
+    }
+
+    private ShoppingListTotals totalsOf(int listId, int storedItems, long actualItems, double storedSpent, double actualSpent) {
+        ShoppingListTotals totals = mock(ShoppingListTotals.class);
+        lenient().when(totals.getListId()).thenReturn(listId);
+        lenient().when(totals.getStoredItemCount()).thenReturn(storedItems);
+        lenient().when(totals.getItemCount()).thenReturn(actualItems);
+        lenient().when(totals.getStoredPurchasedCount()).thenReturn(0);
+        lenient().when(totals.getPurchasedCount()).thenReturn(0L);
+        lenient().when(totals.getStoredEstimatedTotal()).thenReturn(0.0);
+        lenient().when(totals.getEstimatedTotal()).thenReturn(0.0);
+        lenient().when(totals.getStoredSpentTotal()).thenReturn(storedSpent);
+        lenient().when(totals.getSpentTotal()).thenReturn(actualSpent);
+        return totals;
     }
-}
\ No newline at end of file
+}
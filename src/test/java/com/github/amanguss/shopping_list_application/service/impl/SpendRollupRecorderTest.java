@@ -0,0 +1,116 @@
+package com.github.amanguss.shopping_list_application.service.impl;
+
+import com.github.amanguss.shopping_list_application.dto.analytics.PurchaseSpendDto;
+import com.github.amanguss.shopping_list_application.dto.analytics.SpendDeltaDto;
+import com.github.amanguss.shopping_list_application.entity.Category;
+import com.github.amanguss.shopping_list_application.entity.Item;
+import com.github.amanguss.shopping_list_application.entity.ShoppingList;
+import com.github.amanguss.shopping_list_application.entity.User;
+import com.github.amanguss.shopping_list_application.repository.ShoppingListRepository;
+import com.github.amanguss.shopping_list_application.repository.SpendRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpendRollupRecorderTest {
+
+    @Mock
+    private SpendRollupRepository spendRollupRepository;
+
+    @Mock
+    private ShoppingListRepository shoppingListRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private SpendRollupRecorder spendRollups;
+
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        User owner = new User();
+        owner.setId(7);
+
+        ShoppingList shoppingList = new ShoppingList();
+        shoppingList.setId(3);
+        shoppingList.setOwner(owner);
+
+        Category category = new Category();
+        category.setId(5);
+
+        item = new Item();
+        item.setId(1);
+        item.setQuantity(2.0);
+        item.setEstimatedPrice(3.5);
+        item.setActualPrice(4.0);
+        item.setIsPurchased(true);
+        item.setPurchasedDate(LocalDateTime.of(2026, 10, 15, 18, 30));
+        item.setShoppingList(shoppingList);
+        item.setCategory(category);
+    }
+
+    @Test
+    void capture_IgnoresUnpurchasedItems() {
+        Item unpurchased = new Item();
+        unpurchased.setIsPurchased(false);
+
+        List<PurchaseSpendDto> purchases = spendRollups.capture(List.of(item, unpurchased));
+
+        assertEquals(List.of(new PurchaseSpendDto(7, 3, 5, LocalDate.of(2026, 10, 15), 8.0, 7.0)), purchases);
+    }
+
+    @Test
+    void apply_NewPurchase_UpsertsEveryBucketInKeyOrder() {
+        when(spendRollupRepository.currentTransactionId()).thenReturn(812L);
+
+        spendRollups.apply(List.of(), spendRollups.capture(List.of(item)));
+
+        verify(spendRollupRepository, times(9)).addSpend(anyInt(), anyString(), anyInt(), anyString(), any(), anyDouble(), anyInt());
+        InOrder inOrder = inOrder(spendRollupRepository);
+        inOrder.verify(spendRollupRepository).addSpend(7, "CATEGORY", 5, "DAY", LocalDate.of(2026, 10, 15), 8.0, 1);
+        inOrder.verify(spendRollupRepository).addSpend(7, "CATEGORY", 5, "MONTH", LocalDate.of(2026, 10, 1), 8.0, 1);
+        inOrder.verify(spendRollupRepository).addSpend(7, "CATEGORY", 5, "WEEK", LocalDate.of(2026, 10, 12), 8.0, 1);
+        inOrder.verify(spendRollupRepository).addSpend(7, "LIST", 3, "DAY", LocalDate.of(2026, 10, 15), 8.0, 1);
+        inOrder.verify(spendRollupRepository).addSpend(7, "OWNER", 7, "WEEK", LocalDate.of(2026, 10, 12), 8.0, 1);
+        verify(eventPublisher).publishEvent(new SpendDeltaDto(List.of(), spendRollups.capture(List.of(item)), 812L));
+    }
+
+    @Test
+    void apply_UnchangedPurchase_SkipsUpserts() {
+        List<PurchaseSpendDto> before = spendRollups.capture(List.of(item));
+        item.setNotes("no spend change");
+
+        spendRollups.apply(before, spendRollups.capture(List.of(item)));
+
+        verifyNoInteractions(spendRollupRepository, eventPublisher);
+    }
+
+    @Test
+    void rebuildOwner_LocksListsBeforeReplacingRollups() {
+        spendRollups.rebuildOwner(7);
+
+        InOrder inOrder = inOrder(shoppingListRepository, spendRollupRepository);
+        inOrder.verify(shoppingListRepository).lockIdsByOwnerId(7);
+        inOrder.verify(spendRollupRepository).deleteByOwner(7);
+        inOrder.verify(spendRollupRepository).rebuildForOwner(7);
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.amanguss.shopping_list_application.service.impl;
 
+import com.github.amanguss.shopping_list_application.dto.page.CursorPageResponseDto;
 import com.github.amanguss.shopping_list_application.dto.user.UserCreateDto;
 import com.github.amanguss.shopping_list_application.dto.user.UserResponseDto;
 import com.github.amanguss.shopping_list_application.entity.User;
@@ -13,8 +14,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -129,4 +132,23 @@ class UserServiceImplTest {
         assertTrue(result);
         verify(userRepository).existsByEmail("john.doe@example.com");
     }
-}
\ No newline at end of file
+
+    @Test
+    void getUserPage_ReturnsCursorForNextPage() {
+        User newer = new User();
+        newer.setId(3);
+        newer.setRegistrationDate(LocalDateTime.of(2026, 10, 2, 9, 0));
+        User older = new User();
+        older.setId(2);
+        older.setRegistrationDate(LocalDateTime.of(2026, 10, 1, 9, 0));
+        when(userRepository.findPage(any(LocalDateTime.class), eq(Integer.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(newer, older));
+
+        CursorPageResponseDto<UserResponseDto> page = userService.getUserPage(null, 1);
+
+        assertEquals(1, page.getContent().size());
+        assertEquals(3, page.getContent().get(0).getId());
+        assertTrue(page.getHasNext());
+        assertNotNull(page.getNextCursor());
+    }
+}
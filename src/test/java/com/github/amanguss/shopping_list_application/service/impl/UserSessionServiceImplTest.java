@@ -10,14 +10,19 @@ import com.github.amanguss.shopping_list_application.repository.UserSessionRepos
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -75,6 +80,22 @@ class UserSessionServiceImplTest {
         verify(userSessionRepository).save(any(UserSession.class));
     }
 
+    @Test
+    void createSession_NormalizesUserAgentAndIncrementsRollup() {
+        createDto.setUserAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 " +
+                "(KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36 Edg/120.0.0.0");
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(userSessionRepository.save(any(UserSession.class))).thenReturn(userSession);
+
+        userSessionService.createSession(1, createDto);
+
+        ArgumentCaptor<UserSession> captor = ArgumentCaptor.forClass(UserSession.class);
+        verify(userSessionRepository).save(captor.capture());
+        assertEquals("Edge", captor.getValue().getBrowserFamily());
+        assertEquals("Windows", captor.getValue().getOsFamily());
+        verify(userSessionRepository).incrementBrowserStatistic("Edge", "Windows");
+    }
+
     @Test
     void createSession_UserNotFound_ThrowsResourceNotFoundException() {
         when(userRepository.findById(1)).thenReturn(Optional.empty());
@@ -115,13 +136,31 @@ class UserSessionServiceImplTest {
     void updateLastActivity_Success() {
         when(userSessionRepository.findBySessionTokenAndIsActiveTrue("test-token-123"))
                 .thenReturn(Optional.of(userSession));
-        when(userSessionRepository.save(userSession)).thenReturn(userSession);
 
         UserSessionResponseDto result = userSessionService.updateLastActivity("test-token-123");
 
         assertNotNull(result);
         verify(userSessionRepository).findBySessionTokenAndIsActiveTrue("test-token-123");
-        verify(userSessionRepository).save(userSession);
+        verify(userSessionRepository, never()).save(any(UserSession.class));
+    }
+
+    @Test
+    void updateLastActivity_RepeatedCalls_CoalescedIntoSingleFlush() {
+        when(userSessionRepository.findBySessionTokenAndIsActiveTrue("test-token-123"))
+                .thenReturn(Optional.of(userSession));
+        when(userSessionRepository.updateLastActivity(aryEq(new Integer[]{1}), any(LocalDateTime[].class), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        userSessionService.updateLastActivity("test-token-123");
+        userSessionService.updateLastActivity("test-token-123");
+        LocalDateTime lastActivity = userSessionService.updateLastActivity("test-token-123").getLastActivityTime();
+
+        assertEquals(1, userSessionService.flushLastActivity());
+        assertEquals(0, userSessionService.flushLastActivity());
+
+        verify(userSessionRepository, times(1)).findBySessionTokenAndIsActiveTrue("test-token-123");
+        verify(userSessionRepository, times(1)).updateLastActivity(aryEq(new Integer[]{1}),
+                aryEq(new LocalDateTime[]{lastActivity}), any(LocalDateTime.class));
     }
 
     @Test
@@ -137,6 +176,42 @@ class UserSessionServiceImplTest {
         assertNotNull(userSession.getLogoutTime());
     }
 
+    @Test
+    void logoutSession_EvictsCachedSession() {
+        when(userSessionRepository.findBySessionTokenAndIsActiveTrue("test-token-123"))
+                .thenReturn(Optional.of(userSession))
+                .thenReturn(Optional.of(userSession))
+                .thenReturn(Optional.empty());
+
+        userSessionService.updateLastActivity("test-token-123");
+        userSessionService.logoutSession("test-token-123");
+
+        assertThrows(ResourceNotFoundException.class, () -> userSessionService.getSessionByToken("test-token-123"));
+        assertEquals(0, userSessionService.flushLastActivity());
+        verify(userSessionRepository, never()).updateLastActivity(any(), any(), any());
+    }
+
+    @Test
+    void logoutSession_EvictsCachedSessionAfterCommit() {
+        when(userSessionRepository.findBySessionTokenAndIsActiveTrue("test-token-123"))
+                .thenReturn(Optional.of(userSession))
+                .thenReturn(Optional.of(userSession))
+                .thenReturn(Optional.empty());
+        userSessionService.getSessionByToken("test-token-123");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userSessionService.logoutSession("test-token-123");
+            assertNotNull(userSessionService.getSessionByToken("test-token-123"));
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThrows(ResourceNotFoundException.class, () -> userSessionService.getSessionByToken("test-token-123"));
+    }
+
     @Test
     void logoutAllUserSessions_Success() {
         when(userRepository.findById(1)).thenReturn(Optional.of(user));
@@ -0,0 +1,115 @@
+package com.github.amanguss.shopping_list_application.sync;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListSubscriberTest {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final Executor executor = tasks::add;
+
+    @Test
+    void offer_DrainsQueuedEventsInOrderOnOneTask() {
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        ListSubscriber subscriber = new ListSubscriber(1, 2, emitter, 4, executor);
+
+        Set<DataWithMediaType> first = event("first");
+        Set<DataWithMediaType> second = event("second");
+
+        subscriber.offer(first);
+        subscriber.offer(second);
+        assertEquals(1, tasks.size());
+        runTasks();
+
+        assertEquals(List.of(first, second), emitter.sent);
+    }
+
+    @Test
+    void offer_QueueFull_CollapsesBacklogIntoResync() {
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        ListSubscriber subscriber = new ListSubscriber(1, 2, emitter, 2, executor);
+
+        subscriber.offer(event("first"));
+        subscriber.offer(event("second"));
+        subscriber.offer(event("third"));
+        runTasks();
+
+        assertEquals(List.of(ListSubscriber.RESYNC), emitter.sent);
+    }
+
+    @Test
+    void offer_SendFails_ClosesSubscriber() {
+        RecordingEmitter emitter = new RecordingEmitter(true);
+        ListSubscriber subscriber = new ListSubscriber(1, 2, emitter, 4, executor);
+
+        subscriber.offer(event("first"));
+        runTasks();
+        subscriber.offer(event("second"));
+
+        assertTrue(subscriber.isClosed());
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void complete_SendsLastEventThenCompletesEmitter() {
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        ListSubscriber subscriber = new ListSubscriber(1, 2, emitter, 4, executor);
+        Set<DataWithMediaType> deleted = event("deleted");
+
+        subscriber.offer(event("first"));
+        subscriber.complete(deleted);
+        subscriber.offer(event("second"));
+        runTasks();
+
+        assertEquals(List.of(deleted), emitter.sent);
+        assertTrue(emitter.completed);
+        assertTrue(subscriber.isClosed());
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static Set<DataWithMediaType> event(String data) {
+        return Set.of(new DataWithMediaType(data, null));
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Set<DataWithMediaType>> sent = new ArrayList<>();
+        private final boolean failing;
+        private boolean completed;
+
+        RecordingEmitter(boolean failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            sent.add(items);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}